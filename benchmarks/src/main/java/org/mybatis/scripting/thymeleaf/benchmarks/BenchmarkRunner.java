@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The entry point for running benchmarks.
+ * <p>
+ * This runner accepts the same command line options as the JMH's {@code Main} and always enables the GC profiler for
+ * reporting an allocation rate. The throughput is reported by the {@code thrpt} mode and latency percentiles are
+ * reported by the {@code sample} mode.
+ * </p>
+ *
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar                        # run all benchmarks
+ * java -jar benchmarks/target/benchmarks.jar SqlGeneratorBenchmark  # run benchmarks that matches a regexp
+ * java -jar benchmarks/target/benchmarks.jar -p mode=2way -p size=1000
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+    // NOP
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build();
+    new Runner(options).run();
+  }
+
+}
@@ -0,0 +1,176 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.mybatis.scripting.thymeleaf.ThymeleafLanguageDriver;
+import org.mybatis.scripting.thymeleaf.ThymeleafLanguageDriverConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The end-to-end benchmarks that compare the {@link ThymeleafLanguageDriver} with the MyBatis's XML dynamic SQL.
+ * <p>
+ * Each operation opens a {@link SqlSession} and executes a statement against the in-memory H2 database, so that a
+ * result includes {@code getBoundSql}, parameter handling, JDBC round trip and result mapping. Both drivers execute
+ * equivalent statements (see {@code ThymeleafNameMapper.xml} and {@code XmlNameMapper.xml}).
+ * </p>
+ * <p>
+ * Please use the {@link EndToEndBenchmarkRunner} for running this benchmark across multiple threads.
+ * </p>
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EndToEndBenchmark {
+
+  /**
+   * The value of language driver parameter that indicate the {@link ThymeleafLanguageDriver}.
+   */
+  static final String THYMELEAF = "thymeleaf";
+
+  /**
+   * The value of language driver parameter that indicate the {@code XMLLanguageDriver}.
+   */
+  static final String XML = "xml";
+
+  @Param({ THYMELEAF, XML })
+  public String languageDriver;
+
+  private SqlSessionFactory sqlSessionFactory;
+  private PooledDataSource dataSource;
+  private String namespace;
+  private NameParam scalarParam;
+
+  @Setup
+  public void setup() throws IOException, SQLException {
+    dataSource = new PooledDataSource("org.h2.Driver", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+    dataSource.setPoolMaximumActiveConnections(Math.max(10, Runtime.getRuntime().availableProcessors() * 2));
+    dataSource.setPoolMaximumIdleConnections(dataSource.getPoolMaximumActiveConnections());
+
+    try (Connection conn = dataSource.getConnection(); Reader reader = Resources.getResourceAsReader("create-db.sql")) {
+      ScriptRunner runner = new ScriptRunner(conn);
+      runner.setLogWriter(null);
+      runner.setErrorLogWriter(null);
+      runner.runScript(reader);
+      conn.commit();
+    }
+
+    Configuration configuration = new Configuration(
+        new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+    configuration.getLanguageRegistry()
+        .register(new ThymeleafLanguageDriver(ThymeleafLanguageDriverConfig.newInstance(c -> c.setUse2way(true))));
+
+    String mapperName = THYMELEAF.equals(languageDriver) ? "ThymeleafNameMapper" : "XmlNameMapper";
+    String resource = "org/mybatis/scripting/thymeleaf/benchmarks/" + mapperName + ".xml";
+    try (InputStream in = Resources.getResourceAsStream(resource)) {
+      new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+    }
+    namespace = "org.mybatis.scripting.thymeleaf.benchmarks." + mapperName;
+    sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    scalarParam = NameParam.ofScalar();
+  }
+
+  @TearDown
+  public void tearDown() {
+    dataSource.forceCloseAll();
+  }
+
+  /**
+   * Select a row by scalar bind variable.
+   *
+   * @return a selected row
+   */
+  @Benchmark
+  public Name findById() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      return sqlSession.selectOne(namespace + ".findById", scalarParam);
+    }
+  }
+
+  /**
+   * Select rows by LIKE conditions that use custom bind variables.
+   *
+   * @return selected rows
+   */
+  @Benchmark
+  public List<Name> findByName() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      return sqlSession.selectList(namespace + ".findByName", scalarParam);
+    }
+  }
+
+  /**
+   * Select rows by IN-list condition.
+   *
+   * @param collection
+   *          a collection parameter
+   *
+   * @return selected rows
+   */
+  @Benchmark
+  public List<Name> findByIds(SqlGeneratorBenchmark.CollectionParam collection) {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      return sqlSession.selectList(namespace + ".findByIds", collection.param);
+    }
+  }
+
+  /**
+   * Insert rows by multi-row VALUES clause (inserted rows are rolled back when closing a session).
+   *
+   * @param collection
+   *          a collection parameter
+   *
+   * @return an inserted row count
+   */
+  @Benchmark
+  public int insertByBulk(SqlGeneratorBenchmark.CollectionParam collection) {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      return sqlSession.insert(namespace + ".insertByBulk", collection.param);
+    }
+  }
+
+}
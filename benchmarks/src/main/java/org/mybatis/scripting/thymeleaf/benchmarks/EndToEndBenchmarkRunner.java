@@ -0,0 +1,54 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The entry point for running the {@link EndToEndBenchmark} across multiple threads.
+ * <p>
+ * This runner executes the benchmark with 1, 2, 4, ... threads up to the value of {@code benchmark.max-threads} system
+ * property (default is number of available processors). Other options are same as the {@link BenchmarkRunner}.
+ * </p>
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar org.mybatis.scripting.thymeleaf.benchmarks.EndToEndBenchmarkRunner
+ * java -Dbenchmark.max-threads=16 -cp benchmarks/target/benchmarks.jar \
+ *     org.mybatis.scripting.thymeleaf.benchmarks.EndToEndBenchmarkRunner -p size=10
+ * </pre>
+ */
+public final class EndToEndBenchmarkRunner {
+
+  private EndToEndBenchmarkRunner() {
+    // NOP
+  }
+
+  public static void main(String[] args) throws Exception {
+    int maxThreads = Integer.getInteger("benchmark.max-threads", Runtime.getRuntime().availableProcessors());
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    for (int threads = 1; threads <= maxThreads; threads = threads < maxThreads ? Math.min(threads * 2, maxThreads)
+        : threads + 1) {
+      Options options = new OptionsBuilder().parent(commandLineOptions)
+          .include(EndToEndBenchmark.class.getSimpleName()).threads(threads).addProfiler(GCProfiler.class).build();
+      new Runner(options).run();
+    }
+  }
+
+}
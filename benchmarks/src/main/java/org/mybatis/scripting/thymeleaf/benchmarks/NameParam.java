@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf.benchmarks;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The parameter object that passing to the benchmark templates.
+ */
+public class NameParam {
+
+  private Integer id;
+  private String firstName;
+  private String lastName;
+  private List<Integer> ids;
+  private List<Name> names;
+
+  /**
+   * Create a parameter for the scalar bind templates.
+   *
+   * @return a parameter object
+   */
+  static NameParam ofScalar() {
+    NameParam param = new NameParam();
+    param.setId(5);
+    param.setFirstName("Be%ty");
+    param.setLastName("Rub_le");
+    return param;
+  }
+
+  /**
+   * Create a parameter for the collection bind templates.
+   *
+   * @param size
+   *          a size of collection
+   *
+   * @return a parameter object
+   */
+  static NameParam ofCollection(int size) {
+    NameParam param = new NameParam();
+    param.setIds(IntStream.rangeClosed(1, size).boxed().collect(Collectors.toList()));
+    param.setNames(IntStream.rangeClosed(1, size).mapToObj(i -> new Name(null, "First" + i, "Last" + i))
+        .collect(Collectors.toList()));
+    return param;
+  }
+
+  /**
+   * Escape wildcard characters for LIKE condition (same rule with the {@code #likes.escapeWildcard}).
+   *
+   * @param value
+   *          a target value
+   *
+   * @return an escaped value
+   */
+  public static String escapeWildcard(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+
+  public Integer getId() {
+    return id;
+  }
+
+  public void setId(Integer id) {
+    this.id = id;
+  }
+
+  public String getFirstName() {
+    return firstName;
+  }
+
+  public void setFirstName(String firstName) {
+    this.firstName = firstName;
+  }
+
+  public String getLastName() {
+    return lastName;
+  }
+
+  public void setLastName(String lastName) {
+    this.lastName = lastName;
+  }
+
+  public List<Integer> getIds() {
+    return ids;
+  }
+
+  public void setIds(List<Integer> ids) {
+    this.ids = ids;
+  }
+
+  public List<Name> getNames() {
+    return names;
+  }
+
+  public void setNames(List<Name> names) {
+    this.names = names;
+  }
+
+}
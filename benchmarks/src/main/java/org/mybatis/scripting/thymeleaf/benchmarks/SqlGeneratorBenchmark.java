@@ -0,0 +1,136 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.scripting.thymeleaf.SqlGenerator;
+import org.mybatis.scripting.thymeleaf.SqlGeneratorConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The micro benchmarks for {@link SqlGenerator#generate(CharSequence, Object)}.
+ * <p>
+ * This benchmark measures the template rendering only (it does not include parsing of bind variables by MyBatis).
+ * </p>
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SqlGeneratorBenchmark {
+
+  @Param({ Templates.TWO_WAY, Templates.TEXT })
+  public String mode;
+
+  @Param({ Templates.INLINE, Templates.FILE })
+  public String source;
+
+  private SqlGenerator sqlGenerator;
+  private String findById;
+  private String findByName;
+  private String insertByBulk;
+  private String findByIds;
+  private NameParam scalarParam;
+
+  @Setup
+  public void setup() {
+    sqlGenerator = new SqlGenerator(
+        SqlGeneratorConfig.newInstanceWithCustomizer(c -> c.setUse2way(Templates.TWO_WAY.equals(mode))));
+    findById = Templates.resolve(mode, source, "findById");
+    findByName = Templates.resolve(mode, source, "findByName");
+    insertByBulk = Templates.resolve(mode, source, "insertByBulk");
+    findByIds = Templates.resolve(mode, source, "findByIds");
+    scalarParam = NameParam.ofScalar();
+  }
+
+  /**
+   * The scalar bind variable using {@code mb:p}.
+   *
+   * @return a rendered SQL
+   */
+  @Benchmark
+  public String scalarParam() {
+    return sqlGenerator.generate(findById, scalarParam);
+  }
+
+  /**
+   * The custom bind variable using {@code mb:bind} and {@code #likes}.
+   *
+   * @return a rendered SQL
+   */
+  @Benchmark
+  public String bindVariable() {
+    return sqlGenerator.generate(findByName, scalarParam);
+  }
+
+  /**
+   * The iteration using {@code th:each} (e.g. bulk insert).
+   *
+   * @param collection
+   *          a collection parameter
+   *
+   * @return a rendered SQL
+   */
+  @Benchmark
+  public String eachLoop(CollectionParam collection) {
+    return sqlGenerator.generate(insertByBulk, collection.param);
+  }
+
+  /**
+   * The IN-list expansion of a collection using {@code mb:p}.
+   *
+   * @param collection
+   *          a collection parameter
+   *
+   * @return a rendered SQL
+   */
+  @Benchmark
+  public String inList(CollectionParam collection) {
+    return sqlGenerator.generate(findByIds, collection.param);
+  }
+
+  /**
+   * The parameter state for the collection based benchmarks.
+   */
+  @State(Scope.Benchmark)
+  public static class CollectionParam {
+
+    @Param({ "10", "1000" })
+    public int size;
+
+    NameParam param;
+
+    @Setup
+    public void setup() {
+      param = NameParam.ofCollection(size);
+    }
+
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The helper class for resolving the SQL templates used by benchmarks.
+ * <p>
+ * Template files are stored under {@code sql/2way} (for the 2-way SQL mode) and {@code sql/text} (for the non 2-way
+ * SQL mode). An inline template is the content of the same file, so inline and file templates are always equivalent.
+ * </p>
+ */
+final class Templates {
+
+  /**
+   * The value of template mode parameter that indicate the 2-way SQL mode(CSS template mode).
+   */
+  static final String TWO_WAY = "2way";
+
+  /**
+   * The value of template mode parameter that indicate the non 2-way SQL mode(TEXT template mode).
+   */
+  static final String TEXT = "text";
+
+  /**
+   * The value of template source parameter that indicate an inline template.
+   */
+  static final String INLINE = "inline";
+
+  /**
+   * The value of template source parameter that indicate a template file.
+   */
+  static final String FILE = "file";
+
+  private Templates() {
+    // NOP
+  }
+
+  /**
+   * Resolve a template string that passing to the template engine.
+   *
+   * @param mode
+   *          a template mode ({@link #TWO_WAY} or {@link #TEXT})
+   * @param source
+   *          a template source ({@link #INLINE} or {@link #FILE})
+   * @param name
+   *          a template name
+   *
+   * @return a template file path or template content
+   */
+  static String resolve(String mode, String source, String name) {
+    String path = "sql/" + mode + "/" + name + ".sql";
+    return FILE.equals(source) ? path : load(path);
+  }
+
+  private static String load(String path) {
+    try (InputStream in = Templates.class.getClassLoader().getResourceAsStream(path)) {
+      if (in == null) {
+        throw new IllegalArgumentException("The template file not found. path:[" + path + "]");
+      }
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
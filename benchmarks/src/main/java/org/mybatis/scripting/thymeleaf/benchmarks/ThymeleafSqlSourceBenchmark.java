@@ -0,0 +1,127 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+import org.mybatis.scripting.thymeleaf.ThymeleafLanguageDriver;
+import org.mybatis.scripting.thymeleaf.ThymeleafLanguageDriverConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The micro benchmarks for {@code ThymeleafSqlSource#getBoundSql(Object)}.
+ * <p>
+ * This benchmark measures the template rendering and parsing of bind variables by MyBatis (it does not include the JDBC
+ * round trip).
+ * </p>
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThymeleafSqlSourceBenchmark {
+
+  @Param({ Templates.TWO_WAY, Templates.TEXT })
+  public String mode;
+
+  @Param({ Templates.INLINE, Templates.FILE })
+  public String source;
+
+  private SqlSource findById;
+  private SqlSource findByName;
+  private SqlSource insertByBulk;
+  private SqlSource findByIds;
+  private NameParam scalarParam;
+
+  @Setup
+  public void setup() {
+    Configuration configuration = new Configuration();
+    ThymeleafLanguageDriver languageDriver = new ThymeleafLanguageDriver(
+        ThymeleafLanguageDriverConfig.newInstance(c -> c.setUse2way(Templates.TWO_WAY.equals(mode))));
+    findById = createSqlSource(languageDriver, configuration, "findById");
+    findByName = createSqlSource(languageDriver, configuration, "findByName");
+    insertByBulk = createSqlSource(languageDriver, configuration, "insertByBulk");
+    findByIds = createSqlSource(languageDriver, configuration, "findByIds");
+    scalarParam = NameParam.ofScalar();
+  }
+
+  private SqlSource createSqlSource(ThymeleafLanguageDriver languageDriver, Configuration configuration,
+      String name) {
+    return languageDriver.createSqlSource(configuration, Templates.resolve(mode, source, name), NameParam.class);
+  }
+
+  /**
+   * The scalar bind variable using {@code mb:p}.
+   *
+   * @return a bound SQL
+   */
+  @Benchmark
+  public BoundSql scalarParam() {
+    return findById.getBoundSql(scalarParam);
+  }
+
+  /**
+   * The custom bind variable using {@code mb:bind} and {@code #likes}.
+   *
+   * @return a bound SQL
+   */
+  @Benchmark
+  public BoundSql bindVariable() {
+    return findByName.getBoundSql(scalarParam);
+  }
+
+  /**
+   * The iteration using {@code th:each} (e.g. bulk insert).
+   *
+   * @param collection
+   *          a collection parameter
+   *
+   * @return a bound SQL
+   */
+  @Benchmark
+  public BoundSql eachLoop(SqlGeneratorBenchmark.CollectionParam collection) {
+    return insertByBulk.getBoundSql(collection.param);
+  }
+
+  /**
+   * The IN-list expansion of a collection using {@code mb:p}.
+   *
+   * @param collection
+   *          a collection parameter
+   *
+   * @return a bound SQL
+   */
+  @Benchmark
+  public BoundSql inList(SqlGeneratorBenchmark.CollectionParam collection) {
+    return findByIds.getBoundSql(collection.param);
+  }
+
+}
@@ -0,0 +1,26 @@
+--
+--    Copyright 2018-2026 the original author or authors.
+--
+--    Licensed under the Apache License, Version 2.0 (the "License");
+--    you may not use this file except in compliance with the License.
+--    You may obtain a copy of the License at
+--
+--       https://www.apache.org/licenses/LICENSE-2.0
+--
+--    Unless required by applicable law or agreed to in writing, software
+--    distributed under the License is distributed on an "AS IS" BASIS,
+--    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+--    See the License for the specific language governing permissions and
+--    limitations under the License.
+--
+
+drop table if exists names;
+
+create table names (
+  id int generated by default as identity primary key,
+  firstName varchar(20),
+  lastName varchar(20)
+);
+
+insert into names (firstName, lastName) select 'First' || x, 'Last' || x from system_range(1, 10000);
+insert into names (firstName, lastName) values('Be%ty', 'Rub_le');
@@ -0,0 +1,145 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The read-only {@link Set} view that layers some name sets.
+ * <p>
+ * This class does not copy elements of layers, so changes of layers are reflected to this view. When the same name
+ * is contained in multiple layers, it is iterated only once (at the first layer that contains it).
+ * </p>
+ *
+ * @since 1.2.1
+ */
+final class LayeredNameSet extends AbstractSet<String> {
+
+  private final List<Set<String>> layers;
+
+  private LayeredNameSet(List<Set<String>> layers) {
+    this.layers = layers;
+  }
+
+  /**
+   * Create a view that layers specified name sets.
+   *
+   * @param layers
+   *          name sets in order of priority
+   *
+   * @return a read-only view of name sets
+   */
+  @SafeVarargs
+  static Set<String> of(Set<String>... layers) {
+    // Copy layers without exposing the varargs array (it is not reifiable)
+    List<Set<String>> list = new ArrayList<>(layers.length);
+    for (Set<String> layer : layers) {
+      list.add(layer);
+    }
+    return new LayeredNameSet(list);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean contains(Object o) {
+    for (Set<String> layer : layers) {
+      if (layer.contains(o)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isEmpty() {
+    for (Set<String> layer : layers) {
+      if (!layer.isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    int size = 0;
+    for (Iterator<String> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+      size++;
+    }
+    return size;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterator<String> iterator() {
+    return new Iterator<String>() {
+      private int layerIndex;
+      private Iterator<String> current = layers.isEmpty() ? null : layers.get(0).iterator();
+      private String next;
+
+      @Override
+      public boolean hasNext() {
+        while (next == null && current != null) {
+          if (current.hasNext()) {
+            String name = current.next();
+            if (!containsInPreviousLayers(name)) {
+              next = name;
+            }
+          } else {
+            layerIndex++;
+            current = layerIndex < layers.size() ? layers.get(layerIndex).iterator() : null;
+          }
+        }
+        return next != null;
+      }
+
+      @Override
+      public String next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        String name = next;
+        next = null;
+        return name;
+      }
+
+      private boolean containsInPreviousLayers(String name) {
+        for (int i = 0; i < layerIndex; i++) {
+          if (layers.get(i).contains(name)) {
+            return true;
+          }
+        }
+        return false;
+      }
+    };
+  }
+
+}
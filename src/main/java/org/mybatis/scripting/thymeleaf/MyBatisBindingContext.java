@@ -16,9 +16,13 @@
 package org.mybatis.scripting.thymeleaf;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.thymeleaf.context.IContext;
 import org.thymeleaf.engine.IterationStatusVar;
@@ -37,6 +41,11 @@ public class MyBatisBindingContext {
   private final Map<String, Object> customBindVariables = new HashMap<>();
   private final IterationStatusManager iterationStatusManager = new IterationStatusManager();
   private final boolean fallbackParameterObject;
+  private final boolean directBinding;
+  private final List<ParameterBinding> parameterBindings;
+  private final int temporaryTableThreshold;
+  private final Map<String, TemporaryTableBinding> temporaryTableBindings = new LinkedHashMap<>();
+  private int uniqueNameSequence;
 
   /**
    * Load instance from {@link IContext} provided by Thymeleaf.
@@ -57,7 +66,40 @@ public class MyBatisBindingContext {
    *          whether use fallback parameter object when parameter is value object
    */
   MyBatisBindingContext(boolean fallbackParameterObject) {
+    this(fallbackParameterObject, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param fallbackParameterObject
+   *          whether use fallback parameter object when parameter is value object
+   * @param directBinding
+   *          whether bind a parameter directly (render {@code ?} instead of a bind variable expression)
+   *
+   * @since 1.2.1
+   */
+  MyBatisBindingContext(boolean fallbackParameterObject, boolean directBinding) {
+    this(fallbackParameterObject, directBinding, 0);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param fallbackParameterObject
+   *          whether use fallback parameter object when parameter is value object
+   * @param directBinding
+   *          whether bind a parameter directly (render {@code ?} instead of a bind variable expression)
+   * @param temporaryTableThreshold
+   *          the threshold of the number of elements for using a temporary table (zero or less means disabled)
+   *
+   * @since 1.2.1
+   */
+  MyBatisBindingContext(boolean fallbackParameterObject, boolean directBinding, int temporaryTableThreshold) {
     this.fallbackParameterObject = fallbackParameterObject;
+    this.directBinding = directBinding;
+    this.parameterBindings = directBinding ? new ArrayList<>() : List.of();
+    this.temporaryTableThreshold = temporaryTableThreshold;
   }
 
   /**
@@ -108,6 +150,111 @@ public class MyBatisBindingContext {
     return iterationStatusManager.generateUniqueName(objectName, status);
   }
 
+  /**
+   * Set a value into custom bind variable using an unique variable name that generated from specified base name.
+   * <p>
+   * This method is used for binding an element of multiple values object that cannot access by index (e.g.
+   * {@link Iterable} and {@link java.util.stream.Stream}).
+   * </p>
+   *
+   * @param baseName
+   *          a base name of variable (should be a valid identifier)
+   * @param value
+   *          a bind value
+   *
+   * @return an unique variable name that registered
+   *
+   * @since 1.2.1
+   */
+  public String setUniqueCustomBindVariable(String baseName, Object value) {
+    String name = baseName + "_e" + uniqueNameSequence++;
+    customBindVariables.put(name, value);
+    return name;
+  }
+
+  /**
+   * Return whether bind a parameter directly. <br>
+   * If this method return {@code true}, a bind variable is rendered as {@code ?} and a parameter binding should be
+   * registered using {@link #addParameterBinding(String, String)} instead of rendering a bind variable expression.
+   *
+   * @return If bind a parameter directly, return {@code true}
+   *
+   * @since 1.2.1
+   */
+  public boolean isDirectBinding() {
+    return directBinding;
+  }
+
+  /**
+   * Add a parameter binding that correspond to a rendered {@code ?}.
+   *
+   * @param property
+   *          a property path of parameter
+   * @param options
+   *          an options string such as {@code ",jdbcType=VARCHAR"} (can be specified an empty string)
+   *
+   * @since 1.2.1
+   */
+  public void addParameterBinding(String property, String options) {
+    parameterBindings.add(new ParameterBinding(property, options));
+  }
+
+  /**
+   * Get parameter bindings in order of rendered {@code ?}.
+   *
+   * @return parameter bindings
+   */
+  List<ParameterBinding> getParameterBindings() {
+    return parameterBindings;
+  }
+
+  /**
+   * Return whether use a temporary table for binding specified number of elements.
+   * <p>
+   * A temporary table is available only when the threshold is configured (e.g. when use with
+   * {@link ThymeleafLanguageDriver}) and the number of elements exceeds it.
+   * </p>
+   *
+   * @param size
+   *          the number of elements
+   *
+   * @return If use a temporary table, return {@code true}
+   *
+   * @since 1.2.1
+   */
+  public boolean isTemporaryTableApplicable(int size) {
+    return temporaryTableThreshold > 0 && size > temporaryTableThreshold;
+  }
+
+  /**
+   * Add a temporary table binding that insert specified values into a temporary table before executing a statement.
+   *
+   * @param table
+   *          a temporary table name
+   * @param column
+   *          a column name for storing a value
+   * @param values
+   *          values to insert
+   *
+   * @since 1.2.1
+   */
+  public void addTemporaryTableBinding(String table, String column, Collection<?> values) {
+    if (temporaryTableBindings.containsKey(table)) {
+      throw new IllegalStateException(
+          String.format("The temporary table '%s' cannot be used multiple times in a statement.", table));
+    }
+    temporaryTableBindings.put(table, new TemporaryTableBinding(table, column, values));
+  }
+
+  /**
+   * Get temporary table bindings.
+   *
+   * @return temporary table bindings
+   */
+  Collection<TemporaryTableBinding> getTemporaryTableBindings() {
+    return temporaryTableBindings.values();
+  }
+
   /**
    * Return whether use fallback parameter object when parameter is value object.
    *
@@ -117,20 +264,132 @@ public class MyBatisBindingContext {
     return fallbackParameterObject;
   }
 
+  static class ParameterBinding {
+
+    private final String property;
+    private final String options;
+
+    private ParameterBinding(String property, String options) {
+      this.property = property;
+      this.options = options;
+    }
+
+    String getProperty() {
+      return property;
+    }
+
+    String getOptions() {
+      return options;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ParameterBinding)) {
+        return false;
+      }
+      ParameterBinding other = (ParameterBinding) o;
+      return property.equals(other.property) && options.equals(other.options);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+      return 31 * property.hashCode() + options.hashCode();
+    }
+
+  }
+
+  static class TemporaryTableBinding {
+
+    private final String table;
+    private final String column;
+    private final Collection<?> values;
+
+    private TemporaryTableBinding(String table, String column, Collection<?> values) {
+      this.table = table;
+      this.column = column;
+      // Copy values because this binding is used as a part of cache key of statement results
+      this.values = new ArrayList<>(values);
+    }
+
+    String getTable() {
+      return table;
+    }
+
+    String getColumn() {
+      return column;
+    }
+
+    Collection<?> getValues() {
+      return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof TemporaryTableBinding)) {
+        return false;
+      }
+      TemporaryTableBinding other = (TemporaryTableBinding) o;
+      return table.equals(other.table) && column.equals(other.column) && values.equals(other.values);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+      return Objects.hash(table, column, values);
+    }
+
+  }
+
   private static class IterationStatusManager {
 
-    private final Map<String, List<IterationStatusVar>> statusListMapping = new HashMap<>();
+    private final Map<String, Map<IterationStatusVar, UniqueNameGenerator>> generatorsMapping = new HashMap<>();
 
     private String generateUniqueName(String objectName, IterationStatusVar status) {
-      List<IterationStatusVar> statusList = statusListMapping.computeIfAbsent(objectName, k -> new ArrayList<>());
-      int index;
-      if (!statusList.contains(status)) {
-        index = statusList.size();
-        statusList.add(status);
-      } else {
-        index = statusList.indexOf(status);
+      Map<IterationStatusVar, UniqueNameGenerator> generators = generatorsMapping.computeIfAbsent(objectName,
+          k -> new IdentityHashMap<>());
+      UniqueNameGenerator generator = generators.get(status);
+      if (generator == null) {
+        generator = new UniqueNameGenerator(objectName + "_" + generators.size() + "_");
+        generators.put(status, generator);
+      }
+      return generator.generate(status.getIndex());
+    }
+
+  }
+
+  private static class UniqueNameGenerator {
+
+    private final String prefix;
+    private int lastIndex = -1;
+    private String lastName;
+
+    private UniqueNameGenerator(String prefix) {
+      this.prefix = prefix;
+    }
+
+    private String generate(int index) {
+      if (index != lastIndex) {
+        lastName = prefix + index;
+        lastIndex = index;
       }
-      return objectName + "_" + index + "_" + status.getIndex();
+      return lastName;
     }
 
   }
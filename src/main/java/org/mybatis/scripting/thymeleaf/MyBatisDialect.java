@@ -53,6 +53,12 @@ public class MyBatisDialect extends AbstractProcessorDialect implements IExpress
 
   private BindVariableRender bindVariableRender;
 
+  private boolean inClauseParameterPadding;
+
+  private boolean arrayParameterBinding;
+
+  private boolean iterableParameterExpansion;
+
   /**
    * Default constructor.
    */
@@ -92,6 +98,70 @@ public class MyBatisDialect extends AbstractProcessorDialect implements IExpress
     this.bindVariableRender = bindVariableRender;
   }
 
+  /**
+   * Get a bind variable render.
+   *
+   * @return a bind variable render (If not specified, return {@code null})
+   *
+   * @since 1.2.1
+   */
+  BindVariableRender getBindVariableRender() {
+    return bindVariableRender;
+  }
+
+  /**
+   * Set whether pad bind variables of an expanded collection or array up to the power-of-two size.
+   * <p>
+   * This setting is not applied to row values rendered by the {@code properties} option of {@code mb:p}, and it is safe
+   * only for bind variables inside {@code IN (...)}.
+   * </p>
+   *
+   * @param inClauseParameterPadding
+   *          If want to pad bind variables, set {@code true}
+   *
+   * @since 1.2.1
+   */
+  public void setInClauseParameterPadding(boolean inClauseParameterPadding) {
+    this.inClauseParameterPadding = inClauseParameterPadding;
+  }
+
+  /**
+   * Set whether bind a collection or array as single array parameter.
+   *
+   * @param arrayParameterBinding
+   *          If want to bind as single array parameter, set {@code true}
+   *
+   * @since 1.2.1
+   */
+  public void setArrayParameterBinding(boolean arrayParameterBinding) {
+    this.arrayParameterBinding = arrayParameterBinding;
+  }
+
+  /**
+   * Set whether expand an {@code Iterable} (that is not a {@code Collection}) and a {@code Stream} to multiple bind
+   * variables.
+   *
+   * @param iterableParameterExpansion
+   *          If want to expand an iterable and stream object, set {@code true}
+   *
+   * @since 1.2.1
+   */
+  public void setIterableParameterExpansion(boolean iterableParameterExpansion) {
+    this.iterableParameterExpansion = iterableParameterExpansion;
+  }
+
+  /**
+   * Get whether expand an {@code Iterable} (that is not a {@code Collection}) and a {@code Stream} to multiple bind
+   * variables.
+   *
+   * @return If expand an iterable and stream object, return {@code true}
+   *
+   * @since 1.2.1
+   */
+  boolean isIterableParameterExpansion() {
+    return iterableParameterExpansion;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -105,6 +175,9 @@ public class MyBatisDialect extends AbstractProcessorDialect implements IExpress
 
   private MyBatisParamTagProcessor configure(MyBatisParamTagProcessor processor) {
     Optional.ofNullable(bindVariableRender).ifPresent(processor::setBindVariableRender);
+    processor.setInClauseParameterPadding(inClauseParameterPadding);
+    processor.setArrayParameterBinding(arrayParameterBinding);
+    processor.setIterableParameterExpansion(iterableParameterExpansion);
     return processor;
   }
 
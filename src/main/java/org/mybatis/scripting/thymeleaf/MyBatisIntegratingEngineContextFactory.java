@@ -15,14 +15,25 @@
  */
 package org.mybatis.scripting.thymeleaf;
 
-import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 import org.thymeleaf.IEngineConfiguration;
 import org.thymeleaf.context.IContext;
 import org.thymeleaf.context.IEngineContext;
 import org.thymeleaf.context.IEngineContextFactory;
+import org.thymeleaf.context.IdentifierSequences;
 import org.thymeleaf.engine.TemplateData;
+import org.thymeleaf.expression.IExpressionObjects;
+import org.thymeleaf.inline.IInliner;
+import org.thymeleaf.model.IModelFactory;
+import org.thymeleaf.model.IProcessableElementTag;
+import org.thymeleaf.templatemode.TemplateMode;
 
 /**
  * The implementation of {@link IEngineContextFactory} for integrating with MyBatis.
@@ -33,7 +44,6 @@ import org.thymeleaf.engine.TemplateData;
  */
 public class MyBatisIntegratingEngineContextFactory implements IEngineContextFactory {
   private final IEngineContextFactory delegate;
-  private final ClassLoader classLoader = getClass().getClassLoader();
 
   /**
    * Constructor.
@@ -51,24 +61,366 @@ public class MyBatisIntegratingEngineContextFactory implements IEngineContextFac
   @Override
   public IEngineContext createEngineContext(IEngineConfiguration configuration, TemplateData templateData,
       Map<String, Object> templateResolutionAttributes, IContext context) {
+    MyBatisBindingContext bindingContext = MyBatisBindingContext.load(context);
+    boolean fallbackParameterObject = bindingContext != null && bindingContext.isFallbackParameterObject();
+    if (context instanceof LazyContext) {
+      // Variables of context are resolved on demand instead of copying all of them into the engine context
+      IEngineContext engineContext = delegate.createEngineContext(configuration, templateData,
+          templateResolutionAttributes, new EmptyContext(context.getLocale()));
+      return new MyBatisIntegratingEngineContext(engineContext, context, fallbackParameterObject);
+    }
     IEngineContext engineContext = delegate.createEngineContext(configuration, templateData,
         templateResolutionAttributes, context);
-    return (IEngineContext) Proxy.newProxyInstance(classLoader, new Class[] { IEngineContext.class },
-        (proxy, method, args) -> {
-          if (method.getName().equals("getVariable")) {
-            String name = (String) args[0];
-            Object value;
-            MyBatisBindingContext bindingContext = MyBatisBindingContext.load(engineContext);
-            if (bindingContext.isFallbackParameterObject()) {
-              value = engineContext.containsVariable(name) ? engineContext.getVariable(name)
-                  : engineContext.getVariable(SqlGenerator.ContextKeys.PARAMETER_OBJECT);
-            } else {
-              value = engineContext.getVariable(name);
-            }
-            return value;
-          }
-          return method.invoke(engineContext, args);
-        });
+    return new MyBatisIntegratingEngineContext(engineContext, null, fallbackParameterObject);
   }
 
-}
\ No newline at end of file
+  /**
+   * The marker interface that indicates variables of context can be resolved lazily during template processing.
+   * <p>
+   * A context that implements this interface should not change variables during template processing.
+   * </p>
+   *
+   * @since 1.2.1
+   */
+  interface LazyContext extends IContext {
+  }
+
+  private static class EmptyContext implements IContext {
+
+    private final Locale locale;
+
+    private EmptyContext(Locale locale) {
+      this.locale = locale;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Locale getLocale() {
+      return locale;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsVariable(String name) {
+      return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getVariableNames() {
+      return Collections.emptySet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getVariable(String name) {
+      return null;
+    }
+
+  }
+
+  private static class MyBatisIntegratingEngineContext implements IEngineContext {
+
+    private final IEngineContext delegate;
+    private final IContext context;
+    private final boolean fallbackParameterObject;
+    private Map<String, Integer> removedContextVariables;
+
+    private MyBatisIntegratingEngineContext(IEngineContext delegate, IContext context,
+        boolean fallbackParameterObject) {
+      this.delegate = delegate;
+      this.context = context;
+      this.fallbackParameterObject = fallbackParameterObject;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getVariable(String name) {
+      Object value = resolveVariable(name);
+      if (value == null && fallbackParameterObject && !containsVariable(name)) {
+        value = resolveVariable(SqlGenerator.ContextKeys.PARAMETER_OBJECT);
+      }
+      return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsVariable(String name) {
+      return delegate.containsVariable(name) || containsContextVariable(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getVariableNames() {
+      if (context == null) {
+        return delegate.getVariableNames();
+      }
+      if (removedContextVariables == null || removedContextVariables.isEmpty()) {
+        return LayeredNameSet.of(delegate.getVariableNames(), context.getVariableNames());
+      }
+      Set<String> variableNames = new HashSet<>(delegate.getVariableNames());
+      for (String name : context.getVariableNames()) {
+        if (!removedContextVariables.containsKey(name)) {
+          variableNames.add(name);
+        }
+      }
+      return variableNames;
+    }
+
+    private Object resolveVariable(String name) {
+      if (context == null || delegate.containsVariable(name)) {
+        return delegate.getVariable(name);
+      }
+      return containsContextVariable(name) ? context.getVariable(name) : null;
+    }
+
+    private boolean containsContextVariable(String name) {
+      return context != null && (removedContextVariables == null || !removedContextVariables.containsKey(name))
+          && context.containsVariable(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Locale getLocale() {
+      return delegate.getLocale();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IEngineConfiguration getConfiguration() {
+      return delegate.getConfiguration();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IExpressionObjects getExpressionObjects() {
+      return delegate.getExpressionObjects();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TemplateData getTemplateData() {
+      return delegate.getTemplateData();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TemplateMode getTemplateMode() {
+      return delegate.getTemplateMode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TemplateData> getTemplateStack() {
+      return delegate.getTemplateStack();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<IProcessableElementTag> getElementStack() {
+      return delegate.getElementStack();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Object> getTemplateResolutionAttributes() {
+      return delegate.getTemplateResolutionAttributes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IModelFactory getModelFactory() {
+      return delegate.getModelFactory();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasSelectionTarget() {
+      return delegate.hasSelectionTarget();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getSelectionTarget() {
+      return delegate.getSelectionTarget();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IInliner getInliner() {
+      return delegate.getInliner();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getMessage(Class<?> origin, String key, Object[] messageParameters,
+        boolean useAbsentMessageRepresentation) {
+      return delegate.getMessage(origin, key, messageParameters, useAbsentMessageRepresentation);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String buildLink(String base, Map<String, Object> parameters) {
+      return delegate.buildLink(base, parameters);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IdentifierSequences getIdentifierSequences() {
+      return delegate.getIdentifierSequences();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setVariable(String name, Object value) {
+      delegate.setVariable(name, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setVariables(Map<String, Object> variables) {
+      delegate.setVariables(variables);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeVariable(String name) {
+      delegate.removeVariable(name);
+      if (containsContextVariable(name)) {
+        // Hide a context variable until the current level is decreased (same as the engine context)
+        if (removedContextVariables == null) {
+          removedContextVariables = new HashMap<>();
+        }
+        removedContextVariables.putIfAbsent(name, delegate.level());
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setSelectionTarget(Object selectionTarget) {
+      delegate.setSelectionTarget(selectionTarget);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setInliner(IInliner inliner) {
+      delegate.setInliner(inliner);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setTemplateData(TemplateData template) {
+      delegate.setTemplateData(template);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setElementTag(IProcessableElementTag elementTag) {
+      delegate.setElementTag(elementTag);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<IProcessableElementTag> getElementStackAbove(int contextLevel) {
+      return delegate.getElementStackAbove(contextLevel);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isVariableLocal(String name) {
+      return delegate.isVariableLocal(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void increaseLevel() {
+      delegate.increaseLevel();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void decreaseLevel() {
+      delegate.decreaseLevel();
+      if (removedContextVariables != null) {
+        int level = delegate.level();
+        removedContextVariables.values().removeIf(removedLevel -> removedLevel > level);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int level() {
+      return delegate.level();
+    }
+
+  }
+
+}
@@ -0,0 +1,157 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf;
+
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.ibatis.builder.BaseBuilder;
+import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.builder.ParameterExpression;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.reflection.MetaClass;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.JdbcType;
+
+/**
+ * The builder class for creating a {@link ParameterMapping} from a parameter binding that registered by the
+ * {@code mb:p} tag in direct binding mode.
+ * <p>
+ * This class resolves a parameter mapping with the same rule as {@link org.apache.ibatis.builder.SqlSourceBuilder}
+ * (without parsing a {@code #{...}} expression), and caches parsed options per options string.
+ * </p>
+ *
+ * @since 1.2.1
+ */
+class ParameterMappingBuilder extends BaseBuilder {
+
+  private static final String PARAMETER_PROPERTIES = "javaType,jdbcType,mode,numericScale,resultMap,typeHandler,jdbcTypeName";
+  private static final int MAX_PARSED_OPTIONS = 256;
+
+  private final ConcurrentMap<String, Map<String, String>> parsedOptions = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param configuration
+   *          A configuration instance of MyBatis
+   */
+  ParameterMappingBuilder(Configuration configuration) {
+    super(configuration);
+  }
+
+  /**
+   * Build a parameter mapping.
+   *
+   * @param property
+   *          A property path of parameter
+   * @param options
+   *          An options string (e.g. {@code ",jdbcType=VARCHAR"}) or empty string
+   * @param parameterType
+   *          A parameter type
+   * @param metaParameters
+   *          A meta object for additional parameters (bind variables)
+   *
+   * @return a parameter mapping
+   */
+  ParameterMapping build(String property, String options, Class<?> parameterType, MetaObject metaParameters) {
+    String content = property + options;
+    Map<String, String> optionsMap;
+    if (property.indexOf(':') == -1 && property.indexOf('(') == -1) {
+      property = property.trim();
+      optionsMap = parsedOptions.get(options);
+      if (optionsMap == null) {
+        optionsMap = new HashMap<>(parseParameterMapping(content));
+        optionsMap.remove("property");
+        if (parsedOptions.size() < MAX_PARSED_OPTIONS) {
+          parsedOptions.put(options, optionsMap);
+        }
+      }
+    } else {
+      // Not cache because the old style jdbc type or expression is included in property part
+      optionsMap = parseParameterMapping(content);
+      property = optionsMap.get("property");
+    }
+
+    Class<?> propertyType;
+    if (metaParameters.hasGetter(property)) {
+      propertyType = metaParameters.getGetterType(property);
+    } else if (typeHandlerRegistry.hasTypeHandler(parameterType)) {
+      propertyType = parameterType;
+    } else if (JdbcType.CURSOR.name().equals(optionsMap.get("jdbcType"))) {
+      propertyType = ResultSet.class;
+    } else if (property == null || Map.class.isAssignableFrom(parameterType)) {
+      propertyType = Object.class;
+    } else {
+      MetaClass metaClass = MetaClass.forClass(parameterType, configuration.getReflectorFactory());
+      if (metaClass.hasGetter(property)) {
+        propertyType = metaClass.getGetterType(property);
+      } else {
+        propertyType = Object.class;
+      }
+    }
+    ParameterMapping.Builder builder = new ParameterMapping.Builder(configuration, property, propertyType);
+    Class<?> javaType = propertyType;
+    String typeHandlerAlias = null;
+    for (Map.Entry<String, String> entry : optionsMap.entrySet()) {
+      String name = entry.getKey();
+      String value = entry.getValue();
+      if ("javaType".equals(name)) {
+        javaType = resolveClass(value);
+        builder.javaType(javaType);
+      } else if ("jdbcType".equals(name)) {
+        builder.jdbcType(resolveJdbcType(value));
+      } else if ("mode".equals(name)) {
+        builder.mode(resolveParameterMode(value));
+      } else if ("numericScale".equals(name)) {
+        builder.numericScale(Integer.valueOf(value));
+      } else if ("resultMap".equals(name)) {
+        builder.resultMapId(value);
+      } else if ("typeHandler".equals(name)) {
+        typeHandlerAlias = value;
+      } else if ("jdbcTypeName".equals(name)) {
+        builder.jdbcTypeName(value);
+      } else if ("property".equals(name)) {
+        // Do Nothing
+      } else if ("expression".equals(name)) {
+        throw new BuilderException("Expression based parameters are not supported yet");
+      } else {
+        throw new BuilderException("An invalid property '" + name + "' was found in mapping #{" + content
+            + "}.  Valid properties are " + PARAMETER_PROPERTIES);
+      }
+    }
+    if (typeHandlerAlias != null) {
+      builder.typeHandler(resolveTypeHandler(javaType, typeHandlerAlias));
+    }
+    return builder.build();
+  }
+
+  private Map<String, String> parseParameterMapping(String content) {
+    try {
+      return new ParameterExpression(content);
+    } catch (BuilderException ex) {
+      throw ex;
+    } catch (Exception ex) {
+      throw new BuilderException("Parsing error was found in mapping #{" + content
+          + "}.  Check syntax #{property|(expression), var1=value1, var2=value2, ...} ", ex);
+    }
+  }
+
+}
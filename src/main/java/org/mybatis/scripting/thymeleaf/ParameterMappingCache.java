@@ -0,0 +1,240 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.ibatis.builder.SqlSourceBuilder;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * The cache for reusing a parsed SQL (the SQL that replaced {@code #{...}} with {@code ?} and parameter mappings) per
+ * rendered SQL.
+ * <p>
+ * The {@link SqlSourceBuilder} resolves a java type of parameter mapping using a runtime type of additional parameter
+ * (bind variable), so a cached entry holds types of properties that resolved at parsing time and an entry is reused
+ * only when these types are matched. In direct binding mode, parameter mappings built from parameter bindings are
+ * cached per rendered SQL and parameter bindings in the same way.
+ * </p>
+ *
+ * @since 1.2.1
+ */
+class ParameterMappingCache {
+
+  private final Configuration configuration;
+  private final SqlSourceBuilder sqlSourceBuilder;
+  private final ParameterMappingBuilder parameterMappingBuilder;
+  private final int maxSize;
+  private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  /**
+   * Constructor.
+   *
+   * @param configuration
+   *          A configuration instance of MyBatis
+   * @param maxSize
+   *          The maximum number of entries (if specify zero or less, the cache is disabled)
+   */
+  ParameterMappingCache(Configuration configuration, int maxSize) {
+    this.configuration = configuration;
+    this.sqlSourceBuilder = new SqlSourceBuilder(configuration);
+    this.parameterMappingBuilder = new ParameterMappingBuilder(configuration);
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Parse a rendered SQL or get a parsed SQL from cache.
+   *
+   * @param sql
+   *          A rendered SQL
+   * @param parameterType
+   *          A parameter type
+   * @param additionalParameters
+   *          Additional parameters (bind variables)
+   *
+   * @return a parsed SQL
+   */
+  SqlSource parse(String sql, Class<?> parameterType, Map<String, Object> additionalParameters) {
+    if (maxSize <= 0) {
+      return sqlSourceBuilder.parse(sql, parameterType, additionalParameters);
+    }
+    Key key = new Key(sql, parameterType, List.of());
+    MetaObject metaParameters = configuration.newMetaObject(additionalParameters);
+    Entry entry = entries.get(key);
+    if (entry != null && entry.matches(metaParameters)) {
+      hitCount.increment();
+      return entry.sqlSource;
+    }
+    missCount.increment();
+    SqlSource sqlSource = sqlSourceBuilder.parse(sql, parameterType, additionalParameters);
+    if (entry != null || entries.size() < maxSize) {
+      entries.put(key, new Entry(sqlSource, sqlSource.getBoundSql(null).getParameterMappings(), metaParameters));
+    }
+    return sqlSource;
+  }
+
+  /**
+   * Build parameter mappings from parameter bindings that registered in direct binding mode or get them from cache.
+   *
+   * @param sql
+   *          A rendered SQL
+   * @param parameterType
+   *          A parameter type
+   * @param parameterBindings
+   *          Parameter bindings that registered by the {@code mb:p}
+   * @param additionalParameters
+   *          Additional parameters (bind variables)
+   *
+   * @return parameter mappings (should not be modified)
+   */
+  List<ParameterMapping> build(String sql, Class<?> parameterType,
+      List<MyBatisBindingContext.ParameterBinding> parameterBindings, Map<String, Object> additionalParameters) {
+    MetaObject metaParameters = configuration.newMetaObject(additionalParameters);
+    if (maxSize <= 0) {
+      return build(parameterType, parameterBindings, metaParameters);
+    }
+    Key key = new Key(sql, parameterType, parameterBindings);
+    Entry entry = entries.get(key);
+    if (entry != null && entry.matches(metaParameters)) {
+      hitCount.increment();
+      return entry.parameterMappings;
+    }
+    missCount.increment();
+    List<ParameterMapping> parameterMappings = build(parameterType, parameterBindings, metaParameters);
+    if (entry != null || entries.size() < maxSize) {
+      entries.put(new Key(sql, parameterType, List.copyOf(parameterBindings)),
+          new Entry(null, parameterMappings, metaParameters));
+    }
+    return parameterMappings;
+  }
+
+  private List<ParameterMapping> build(Class<?> parameterType,
+      List<MyBatisBindingContext.ParameterBinding> parameterBindings, MetaObject metaParameters) {
+    List<ParameterMapping> parameterMappings = new ArrayList<>(parameterBindings.size());
+    for (MyBatisBindingContext.ParameterBinding parameterBinding : parameterBindings) {
+      parameterMappings.add(parameterMappingBuilder.build(parameterBinding.getProperty(), parameterBinding.getOptions(),
+          parameterType, metaParameters));
+    }
+    return parameterMappings;
+  }
+
+  /**
+   * Get the number of cache hits.
+   *
+   * @return the number of cache hits
+   */
+  long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Get the number of cache misses.
+   *
+   * @return the number of cache misses
+   */
+  long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Get the number of cached entries.
+   *
+   * @return the number of cached entries
+   */
+  int size() {
+    return entries.size();
+  }
+
+  private static class Key {
+
+    private final String sql;
+    private final Class<?> parameterType;
+    private final List<MyBatisBindingContext.ParameterBinding> parameterBindings;
+    private final int hashCode;
+
+    private Key(String sql, Class<?> parameterType, List<MyBatisBindingContext.ParameterBinding> parameterBindings) {
+      this.sql = sql;
+      this.parameterType = parameterType;
+      this.parameterBindings = parameterBindings;
+      this.hashCode = 31 * (31 * sql.hashCode() + parameterType.hashCode()) + parameterBindings.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return parameterType == other.parameterType && sql.equals(other.sql)
+          && parameterBindings.equals(other.parameterBindings);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+  }
+
+  private static class Entry {
+
+    private final SqlSource sqlSource;
+    private final List<ParameterMapping> parameterMappings;
+    private final Map<String, Class<?>> propertyTypes = new LinkedHashMap<>();
+
+    private Entry(SqlSource sqlSource, List<ParameterMapping> parameterMappings, MetaObject metaParameters) {
+      this.sqlSource = sqlSource;
+      this.parameterMappings = parameterMappings;
+      for (ParameterMapping parameterMapping : parameterMappings) {
+        String property = parameterMapping.getProperty();
+        if (!propertyTypes.containsKey(property)) {
+          propertyTypes.put(property, resolveType(metaParameters, property));
+        }
+      }
+    }
+
+    private boolean matches(MetaObject metaParameters) {
+      for (Map.Entry<String, Class<?>> propertyType : propertyTypes.entrySet()) {
+        if (!Objects.equals(propertyType.getValue(), resolveType(metaParameters, propertyType.getKey()))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static Class<?> resolveType(MetaObject metaParameters, String property) {
+      // Returns null when a property does not exist in additional parameters (resolve type using a parameter type)
+      return metaParameters.hasGetter(property) ? metaParameters.getGetterType(property) : null;
+    }
+
+  }
+
+}
@@ -16,19 +16,28 @@
 package org.mybatis.scripting.thymeleaf;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.mybatis.scripting.thymeleaf.expression.Likes;
 import org.thymeleaf.ITemplateEngine;
 import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.StandardCacheManager;
 import org.thymeleaf.context.IContext;
 import org.thymeleaf.templatemode.TemplateMode;
 import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
@@ -41,7 +50,7 @@ import org.thymeleaf.templateresolver.StringTemplateResolver;
  *
  * @version 1.0.2
  */
-public class SqlGenerator {
+public class SqlGenerator implements AutoCloseable {
 
   static class ContextKeys {
     static final String PARAMETER_OBJECT = "_parameter";
@@ -50,13 +59,17 @@ public class SqlGenerator {
   private final ITemplateEngine templateEngine;
   private Map<String, Object> defaultCustomVariables = Map.of();
   private PropertyAccessor propertyAccessor = PropertyAccessor.BuiltIn.STANDARD;
+  private final Map<Class<?>, Set<String>> propertyNamesCache = new ConcurrentHashMap<>();
   private BiFunction<Object, Map<String, Object>, IContext> contextFactory = DefaultContext::new;
+  private Executor templateRefreshExecutor;
+  private final ConcurrentMap<String, CountDownLatch> loadingTemplates = new ConcurrentHashMap<>();
+  private WatchingClassLoaderTemplateResolver watchingTemplateResolver;
 
   /**
    * Constructor for creating instance with default {@code TemplateEngine}.
    */
   public SqlGenerator() {
-    this.templateEngine = createDefaultTemplateEngine(SqlGeneratorConfig.newInstance());
+    this(SqlGeneratorConfig.newInstance());
   }
 
   /**
@@ -67,6 +80,10 @@ public class SqlGenerator {
    */
   public SqlGenerator(SqlGeneratorConfig config) {
     this.templateEngine = createDefaultTemplateEngine(config);
+    if (config.getTemplateFile().isAsyncRefreshEnabled()) {
+      this.templateRefreshExecutor = Optional.ofNullable(config.getTemplateFile().getRefreshExecutor())
+          .orElseGet(ForkJoinPool::commonPool);
+    }
   }
 
   /**
@@ -109,6 +126,34 @@ public class SqlGenerator {
    */
   public void setPropertyAccessor(PropertyAccessor propertyAccessor) {
     this.propertyAccessor = Optional.ofNullable(propertyAccessor).orElse(PropertyAccessor.BuiltIn.STANDARD);
+    this.propertyNamesCache.clear();
+  }
+
+  /**
+   * Set an executor for refreshing an expired template asynchronously.
+   * <p>
+   * If specified, an expired template of {@link SqlTemplate} (e.g. the cache TTL is specified) keeps serving while the
+   * executor resolves and parses the template again. Default is {@code null}(refresh synchronously at rendering).
+   * </p>
+   *
+   * @param templateRefreshExecutor
+   *          an executor for refreshing an expired template
+   *
+   * @since 1.2.1
+   *
+   * @see SqlGeneratorConfig.TemplateFileConfig#isAsyncRefreshEnabled()
+   */
+  public void setTemplateRefreshExecutor(Executor templateRefreshExecutor) {
+    this.templateRefreshExecutor = templateRefreshExecutor;
+  }
+
+  /**
+   * Get an executor for refreshing an expired template asynchronously.
+   *
+   * @return an executor for refreshing an expired template (If refresh synchronously, return {@code null})
+   */
+  Executor getTemplateRefreshExecutor() {
+    return templateRefreshExecutor;
   }
 
   /**
@@ -124,13 +169,22 @@ public class SqlGenerator {
   private ITemplateEngine createDefaultTemplateEngine(SqlGeneratorConfig config) {
     MyBatisDialect dialect = new MyBatisDialect(config.getDialect().getPrefix());
     Optional.ofNullable(config.getDialect().getBindVariableRenderInstance()).ifPresent(dialect::setBindVariableRender);
+    dialect.setInClauseParameterPadding(config.getDialect().isInClauseParameterPadding());
+    dialect.setArrayParameterBinding(config.getDialect().isArrayParameterBinding());
+    dialect.setIterableParameterExpansion(config.getDialect().isIterableParameterExpansion());
     Likes likes = Likes.newBuilder().escapeChar(config.getDialect().getLikeEscapeChar())
         .escapeClauseFormat(config.getDialect().getLikeEscapeClauseFormat())
         .additionalEscapeTargetChars(config.getDialect().getLikeAdditionalEscapeTargetChars()).build();
     dialect.setLikes(likes);
 
     // Create an ClassLoaderTemplateResolver instance
-    ClassLoaderTemplateResolver classLoaderTemplateResolver = new ClassLoaderTemplateResolver();
+    ClassLoaderTemplateResolver classLoaderTemplateResolver;
+    if (config.getTemplateFile().isWatchEnabled()) {
+      watchingTemplateResolver = new WatchingClassLoaderTemplateResolver();
+      classLoaderTemplateResolver = watchingTemplateResolver;
+    } else {
+      classLoaderTemplateResolver = new ClassLoaderTemplateResolver();
+    }
     TemplateMode mode = config.isUse2way() ? TemplateMode.CSS : TemplateMode.TEXT;
     classLoaderTemplateResolver.setOrder(1);
     classLoaderTemplateResolver.setTemplateMode(mode);
@@ -145,9 +199,15 @@ public class SqlGenerator {
     StringTemplateResolver stringTemplateResolver = new StringTemplateResolver();
     stringTemplateResolver.setOrder(2);
     stringTemplateResolver.setTemplateMode(mode);
+    stringTemplateResolver.setCacheable(config.getTemplateCache().isInlineEnabled());
 
     // Create an TemplateEngine instance
     TemplateEngine targetTemplateEngine = new TemplateEngine();
+    Optional.ofNullable(config.getTemplateCache().getMaxSize()).ifPresent(maxSize -> {
+      StandardCacheManager cacheManager = new StandardCacheManager();
+      cacheManager.setTemplateCacheMaxSize(maxSize);
+      targetTemplateEngine.setCacheManager(cacheManager);
+    });
     targetTemplateEngine.addTemplateResolver(classLoaderTemplateResolver);
     targetTemplateEngine.addTemplateResolver(stringTemplateResolver);
     targetTemplateEngine.addDialect(dialect);
@@ -223,12 +283,85 @@ public class SqlGenerator {
    */
   public String generate(CharSequence sqlTemplate, Object parameter,
       BiConsumer<String, Object> customBindVariableBinder, Map<String, Object> customVariables) {
+    return compile(sqlTemplate).render(parameter, customBindVariableBinder, customVariables);
+  }
+
+  /**
+   * Compile a sql template for reusing.
+   * <p>
+   * A returned {@link SqlTemplate} resolves and parses a template only once, so that it can skip the template
+   * resolution at subsequent renderings.
+   * </p>
+   *
+   * @param sqlTemplate
+   *          a template SQL (inline SQL or template file path)
+   *
+   * @return a compiled sql template
+   *
+   * @since 1.2.1
+   */
+  public SqlTemplate compile(CharSequence sqlTemplate) {
+    return new SqlTemplate(this, templateEngine, sqlTemplate.toString());
+  }
+
+  /**
+   * Release resources held by the default {@code TemplateEngine}.
+   * <p>
+   * This method stops watching template files when the {@code template-file.watch-enabled} is {@code true}. It does
+   * nothing for a user defined {@code ITemplateEngine}, and this instance can be used after closing (templates are
+   * cached without watching).
+   * </p>
+   *
+   * @since 1.2.1
+   *
+   * @see WatchingClassLoaderTemplateResolver#close()
+   */
+  @Override
+  public void close() {
+    if (watchingTemplateResolver != null) {
+      watchingTemplateResolver.close();
+    }
+  }
+
+  /**
+   * Load a template by only one thread per template, and other threads that load the same template wait for it.
+   *
+   * @param <T>
+   *          the type of loaded template
+   * @param template
+   *          a template SQL (inline SQL or template file path)
+   * @param loader
+   *          a loader that should check whether the template has been loaded by other thread before loading it
+   *
+   * @return a loaded template
+   */
+  <T> T loadTemplate(String template, Supplier<T> loader) {
+    CountDownLatch latch = new CountDownLatch(1);
+    CountDownLatch loadingLatch;
+    while ((loadingLatch = loadingTemplates.putIfAbsent(template, latch)) != null) {
+      try {
+        loadingLatch.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return loader.get();
+      }
+    }
+    try {
+      return loader.get();
+    } finally {
+      loadingTemplates.remove(template, latch);
+      latch.countDown();
+    }
+  }
+
+  String generate(Function<IContext, String> processor, Object parameter,
+      BiConsumer<String, Object> customBindVariableBinder, Map<String, Object> customVariables) {
 
     Map<String, Object> processingCustomVariables = new HashMap<>(defaultCustomVariables);
     Optional.ofNullable(customVariables).ifPresent(processingCustomVariables::putAll);
 
     IContext context = contextFactory.apply(parameter, processingCustomVariables);
-    String sql = templateEngine.process(sqlTemplate.toString(), context);
+    String sql = processor.apply(context);
 
     MyBatisBindingContext bindingContext = MyBatisBindingContext.load(context);
     if (bindingContext != null && customBindVariableBinder != null) {
@@ -238,33 +371,38 @@ public class SqlGenerator {
     return sql;
   }
 
-  private class DefaultContext implements IContext {
+  private Set<String> getPropertyNames(Class<?> type) {
+    return propertyNamesCache.computeIfAbsent(type,
+        k -> Collections.unmodifiableSet(new HashSet<>(propertyAccessor.getPropertyNames(k))));
+  }
+
+  private class DefaultContext implements MyBatisIntegratingEngineContextFactory.LazyContext {
 
     private final Object parameter;
     private final Map<String, Object> mapParameter;
-    private final Set<String> propertyNames = new HashSet<>();
     private final Map<String, Object> customVariables;
+    private final Set<String> variableNames;
 
     private DefaultContext(Object parameter, Map<String, Object> customVariables) {
       this.parameter = parameter;
+      Set<String> propertyNames;
       boolean fallback;
       if (parameter instanceof Map) {
         @SuppressWarnings("unchecked")
         Map<String, Object> map = (Map<String, Object>) parameter;
-        propertyNames.addAll(map.keySet());
+        propertyNames = map.keySet();
         this.mapParameter = map;
         fallback = false;
       } else {
         this.mapParameter = null;
-        if (parameter != null) {
-          propertyNames.addAll(propertyAccessor.getPropertyNames(parameter.getClass()));
-        }
+        propertyNames = parameter == null ? Collections.emptySet() : getPropertyNames(parameter.getClass());
         fallback = propertyNames.isEmpty();
       }
       MyBatisBindingContext bindingContext = new MyBatisBindingContext(fallback);
       this.customVariables = customVariables;
       customVariables.put(MyBatisBindingContext.CONTEXT_VARIABLE_NAME, bindingContext);
       customVariables.put(ContextKeys.PARAMETER_OBJECT, parameter);
+      this.variableNames = LayeredNameSet.of(customVariables.keySet(), propertyNames);
     }
 
     @Override
@@ -274,13 +412,11 @@ public class SqlGenerator {
 
     @Override
     public boolean containsVariable(String name) {
-      return customVariables.containsKey(name) || propertyNames.contains(name);
+      return variableNames.contains(name);
     }
 
     @Override
     public Set<String> getVariableNames() {
-      Set<String> variableNames = new HashSet<>(customVariables.keySet());
-      variableNames.addAll(propertyNames);
       return variableNames;
     }
 
@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -58,12 +59,14 @@ public class SqlGeneratorConfig {
   static {
     Map<Class<?>, Function<String, Object>> converters = new HashMap<>();
     converters.put(boolean.class, v -> Boolean.valueOf(v.trim()));
+    converters.put(int.class, v -> Integer.valueOf(v.trim()));
     converters.put(String.class, String::trim);
     converters.put(Character[].class, v -> Stream.of(v.split(",")).map(String::trim).filter(e -> e.length() == 1)
         .map(e -> e.charAt(0)).toArray(Character[]::new));
     converters.put(Character.class, v -> v.trim().charAt(0));
     converters.put(Charset.class, v -> Charset.forName(v.trim()));
     converters.put(Long.class, v -> Long.valueOf(v.trim()));
+    converters.put(Integer.class, v -> Integer.valueOf(v.trim()));
     converters.put(String[].class, v -> Stream.of(v.split(",")).map(String::trim).toArray(String[]::new));
     converters.put(Class.class, SqlGeneratorConfig::toClassForName);
     TYPE_CONVERTERS = Map.copyOf(converters);
@@ -84,6 +87,11 @@ public class SqlGeneratorConfig {
    */
   private final TemplateFileConfig templateFile = new TemplateFileConfig();
 
+  /**
+   * Template cache configuration.
+   */
+  private final TemplateCacheConfig templateCache = new TemplateCacheConfig();
+
   /**
    * Dialect configuration.
    */
@@ -154,6 +162,17 @@ public class SqlGeneratorConfig {
     return templateFile;
   }
 
+  /**
+   * Get a template cache configuration.
+   *
+   * @return a template cache configuration
+   *
+   * @since 1.2.1
+   */
+  public TemplateCacheConfig getTemplateCache() {
+    return templateCache;
+  }
+
   /**
    * Get a dialect configuration.
    *
@@ -196,6 +215,21 @@ public class SqlGeneratorConfig {
      */
     private Long cacheTtl;
 
+    /**
+     * Whether watch template files on the file system and invalidate cached templates of changed files.
+     */
+    private boolean watchEnabled;
+
+    /**
+     * Whether refresh an expired template asynchronously.
+     */
+    private boolean asyncRefreshEnabled;
+
+    /**
+     * The executor for refreshing an expired template asynchronously.
+     */
+    private Executor refreshExecutor;
+
     /**
      * Get the character encoding for reading template resource file.
      * <p>
@@ -306,6 +340,163 @@ public class SqlGeneratorConfig {
       this.cacheTtl = cacheTtl;
     }
 
+    /**
+     * Get whether watch template files on the file system and invalidate cached templates of changed files.
+     * <p>
+     * If enabled, the static SqlSource for a straight-line template is not applied to a watched template, and watching
+     * is stopped by {@link SqlGenerator#close()}. Default is {@code false}.
+     * </p>
+     *
+     * @return If watch template files, return {@code true}
+     *
+     * @since 1.2.1
+     *
+     * @see WatchingClassLoaderTemplateResolver
+     */
+    public boolean isWatchEnabled() {
+      return watchEnabled;
+    }
+
+    /**
+     * Set whether watch template files on the file system and invalidate cached templates of changed files.
+     * <p>
+     * If enabled, a cached template is kept until the template file is changed, so that the cache TTL does not need to
+     * be specified.
+     * </p>
+     *
+     * @param watchEnabled
+     *          If watch template files, set {@code true}
+     *
+     * @since 1.2.1
+     */
+    public void setWatchEnabled(boolean watchEnabled) {
+      this.watchEnabled = watchEnabled;
+    }
+
+    /**
+     * Get whether refresh an expired template asynchronously.
+     * <p>
+     * Default is {@code false}.
+     * </p>
+     *
+     * @return If refresh an expired template asynchronously, return {@code true}
+     *
+     * @since 1.2.1
+     */
+    public boolean isAsyncRefreshEnabled() {
+      return asyncRefreshEnabled;
+    }
+
+    /**
+     * Set whether refresh an expired template asynchronously.
+     * <p>
+     * If enabled, a compiled template that is expired by the cache TTL keeps serving while the refresh executor
+     * resolves and parses the template again, and it is swapped only if the template content is changed. This
+     * feature is applied to a compiled template (the {@link SqlTemplate} and the SqlSource created by the language
+     * driver).
+     * </p>
+     *
+     * @param asyncRefreshEnabled
+     *          If refresh an expired template asynchronously, set {@code true}
+     *
+     * @since 1.2.1
+     *
+     * @see SqlGenerator#setTemplateRefreshExecutor(Executor)
+     */
+    public void setAsyncRefreshEnabled(boolean asyncRefreshEnabled) {
+      this.asyncRefreshEnabled = asyncRefreshEnabled;
+    }
+
+    /**
+     * Get the executor for refreshing an expired template asynchronously.
+     * <p>
+     * Default is {@code null}(use the common pool of {@link java.util.concurrent.ForkJoinPool}).
+     * </p>
+     *
+     * @return the executor for refreshing an expired template asynchronously
+     *
+     * @since 1.2.1
+     */
+    public Executor getRefreshExecutor() {
+      return refreshExecutor;
+    }
+
+    /**
+     * Set the executor for refreshing an expired template asynchronously.
+     *
+     * @param refreshExecutor
+     *          the executor for refreshing an expired template asynchronously
+     *
+     * @since 1.2.1
+     */
+    public void setRefreshExecutor(Executor refreshExecutor) {
+      this.refreshExecutor = refreshExecutor;
+    }
+
+  }
+
+  /**
+   * Template cache configuration.
+   *
+   * @since 1.2.1
+   */
+  public static class TemplateCacheConfig {
+
+    /**
+     * Whether cache a parsed template for inline SQL(SQL specified directly on annotation or mapper XML).
+     */
+    private boolean inlineEnabled = true;
+
+    /**
+     * The maximum number of parsed templates held in the template cache.
+     */
+    private Integer maxSize;
+
+    /**
+     * Get whether cache a parsed template for inline SQL.
+     * <p>
+     * Default is {@code true}.
+     * </p>
+     *
+     * @return If cache a parsed template for inline SQL, return {@code true}
+     */
+    public boolean isInlineEnabled() {
+      return inlineEnabled;
+    }
+
+    /**
+     * Set whether cache a parsed template for inline SQL.
+     *
+     * @param inlineEnabled
+     *          If cache a parsed template for inline SQL, set {@code true}
+     */
+    public void setInlineEnabled(boolean inlineEnabled) {
+      this.inlineEnabled = inlineEnabled;
+    }
+
+    /**
+     * Get the maximum number of parsed templates held in the template cache.
+     * <p>
+     * This limit is shared by template files and inline SQL. Default is {@code null}(indicate to use default value of
+     * Thymeleaf).
+     * </p>
+     *
+     * @return the maximum number of parsed templates
+     */
+    public Integer getMaxSize() {
+      return maxSize;
+    }
+
+    /**
+     * Set the maximum number of parsed templates held in the template cache.
+     *
+     * @param maxSize
+     *          the maximum number of parsed templates
+     */
+    public void setMaxSize(Integer maxSize) {
+      this.maxSize = maxSize;
+    }
+
   }
 
   /**
@@ -341,6 +532,21 @@ public class SqlGeneratorConfig {
      */
     private BindVariableRender bindVariableRender;
 
+    /**
+     * Whether pad bind variables of an expanded collection or array up to the power-of-two size.
+     */
+    private boolean inClauseParameterPadding;
+
+    /**
+     * Whether bind a collection or array as single array parameter.
+     */
+    private boolean arrayParameterBinding;
+
+    /**
+     * Whether expand an iterable (that is not a collection) and stream object to multiple bind variables.
+     */
+    private boolean iterableParameterExpansion;
+
     /**
      * Get the prefix name of dialect provided by this project.
      * <p>
@@ -463,6 +669,99 @@ public class SqlGeneratorConfig {
     public void setBindVariableRenderInstance(BindVariableRender bindVariableRender) {
       this.bindVariableRender = bindVariableRender;
     }
+
+    /**
+     * Get whether pad bind variables of an expanded collection or array up to the power-of-two size.
+     * <p>
+     * If enabled, the {@code mb:p} repeats a bind variable of the last element until the number of bind variables
+     * reaches the next power of two (e.g. 5 elements are rendered as 8 bind variables). It stabilizes rendered SQL
+     * for statement caches and plan caches. This setting can be overridden by the {@code padding} option of
+     * {@code mb:p} (e.g. {@code mb:p="ids,padding=true"}). This setting is not applied to row values rendered by the
+     * {@code properties} option of {@code mb:p} (a padded row value in a {@code VALUES} clause inserts the last row
+     * twice), so it is safe only for bind variables inside {@code IN (...)}. Default is {@code false}.
+     * </p>
+     *
+     * @return If pad bind variables, return {@code true}
+     *
+     * @since 1.2.1
+     */
+    public boolean isInClauseParameterPadding() {
+      return inClauseParameterPadding;
+    }
+
+    /**
+     * Set whether pad bind variables of an expanded collection or array up to the power-of-two size.
+     *
+     * @param inClauseParameterPadding
+     *          If want to pad bind variables, set {@code true}
+     *
+     * @since 1.2.1
+     */
+    public void setInClauseParameterPadding(boolean inClauseParameterPadding) {
+      this.inClauseParameterPadding = inClauseParameterPadding;
+    }
+
+    /**
+     * Get whether bind a collection or array as single array parameter.
+     * <p>
+     * If enabled, the {@code mb:p} renders single bind variable for a collection or array instead of expanding to
+     * multiple bind variables, and binds it as SQL array using the {@code ArrayTypeHandler} of MyBatis. The rendered
+     * SQL is constant regardless of the number of elements, but you need to write SQL that receives an array
+     * parameter (e.g. {@code id = ANY(?)} on PostgreSQL and H2, {@code id IN (UNNEST(?))} on HSQLDB). This setting
+     * can be overridden by the {@code array} option of {@code mb:p} (e.g. {@code mb:p="ids,array=true"}). Default is
+     * {@code false}.
+     * </p>
+     *
+     * @return If bind as single array parameter, return {@code true}
+     *
+     * @since 1.2.1
+     */
+    public boolean isArrayParameterBinding() {
+      return arrayParameterBinding;
+    }
+
+    /**
+     * Set whether bind a collection or array as single array parameter.
+     *
+     * @param arrayParameterBinding
+     *          If want to bind as single array parameter, set {@code true}
+     *
+     * @since 1.2.1
+     */
+    public void setArrayParameterBinding(boolean arrayParameterBinding) {
+      this.arrayParameterBinding = arrayParameterBinding;
+    }
+
+    /**
+     * Get whether expand an iterable (that is not a collection) and stream object to multiple bind variables.
+     * <p>
+     * A collection and array are always expanded by the {@code mb:p}. If enabled, an {@code Iterable} that is not a
+     * {@code Collection} and a {@code Stream} (including primitive streams such as {@code IntStream}) are also
+     * expanded, and each element is registered to the custom bind variables. If disabled, these objects are bound as
+     * single value (e.g. an object that is handled by a type handler such as {@code java.nio.file.Path}). This setting
+     * can be overridden by the {@code iterable} option of {@code mb:p} (e.g. {@code mb:p="ids,iterable=true"}).
+     * Default is {@code false}.
+     * </p>
+     *
+     * @return If expand an iterable and stream object, return {@code true}
+     *
+     * @since 1.2.1
+     */
+    public boolean isIterableParameterExpansion() {
+      return iterableParameterExpansion;
+    }
+
+    /**
+     * Set whether expand an iterable (that is not a collection) and stream object to multiple bind variables.
+     *
+     * @param iterableParameterExpansion
+     *          If want to expand an iterable and stream object, set {@code true}
+     *
+     * @since 1.2.1
+     */
+    public void setIterableParameterExpansion(boolean iterableParameterExpansion) {
+      this.iterableParameterExpansion = iterableParameterExpansion;
+    }
   }
 
   /**
@@ -506,6 +805,16 @@ public class SqlGeneratorConfig {
    * <td>None(use default value of Thymeleaf)</td>
    * </tr>
    * <tr>
+   * <td>template-file.watch-enabled</td>
+   * <td>Whether watch template files and invalidate cached templates of changed files</td>
+   * <td>{@code false}</td>
+   * </tr>
+   * <tr>
+   * <td>template-file.async-refresh-enabled</td>
+   * <td>Whether refresh an expired template asynchronously</td>
+   * <td>{@code false}</td>
+   * </tr>
+   * <tr>
    * <td>template-file.encoding</td>
    * <td>The character encoding for reading template resources</td>
    * <td>{@code "UTF-8"}</td>
@@ -521,6 +830,19 @@ public class SqlGeneratorConfig {
    * <td>{@code "*.sql"}</td>
    * </tr>
    * <tr>
+   * <th colspan="3">Template cache configuration</th>
+   * </tr>
+   * <tr>
+   * <td>template-cache.inline-enabled</td>
+   * <td>Whether cache a parsed template for inline SQL</td>
+   * <td>{@code true}</td>
+   * </tr>
+   * <tr>
+   * <td>template-cache.max-size</td>
+   * <td>The maximum number of parsed templates held in the template cache</td>
+   * <td>None(use default value of Thymeleaf)</td>
+   * </tr>
+   * <tr>
    * <th colspan="3">Dialect configuration</th>
    * </tr>
    * <tr>
@@ -543,6 +865,22 @@ public class SqlGeneratorConfig {
    * <td>The additional escape target characters(custom wildcard characters) for LIKE condition</td>
    * <td>None</td>
    * </tr>
+   * <tr>
+   * <td>dialect.in-clause-parameter-padding</td>
+   * <td>Whether pad bind variables of an expanded collection or array up to the power-of-two size (not applied to row
+   * values)</td>
+   * <td>{@code false}</td>
+   * </tr>
+   * <tr>
+   * <td>dialect.array-parameter-binding</td>
+   * <td>Whether bind a collection or array as single array parameter</td>
+   * <td>{@code false}</td>
+   * </tr>
+   * <tr>
+   * <td>dialect.iterable-parameter-expansion</td>
+   * <td>Whether expand an iterable (that is not a collection) and stream object to multiple bind variables</td>
+   * <td>{@code false}</td>
+   * </tr>
    * </table>
    *
    * @return a configuration instance
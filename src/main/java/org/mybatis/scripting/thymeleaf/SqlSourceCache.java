@@ -0,0 +1,138 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.ibatis.mapping.SqlSource;
+
+/**
+ * The cache for reusing a SqlSource instance created by a language driver.
+ * <p>
+ * A lookup does not take a lock (it only records an access time on the entry). When the number of entries exceeds
+ * the maximum size by adding an entry, entries that are not accessed for the longest time are evicted by a single
+ * thread, so the eviction order is approximately least recently used.
+ * </p>
+ *
+ * @param <K>
+ *          the type of cache key
+ *
+ * @since 1.2.1
+ */
+class SqlSourceCache<K> {
+
+  private final int maxSize;
+  private final ConcurrentMap<K, Entry> entries = new ConcurrentHashMap<>();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize
+   *          The maximum number of entries
+   */
+  SqlSourceCache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Get a cached SqlSource.
+   *
+   * @param key
+   *          A cache key
+   *
+   * @return a cached SqlSource (If not cached, return {@code null})
+   */
+  SqlSource get(K key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    entry.lastAccessTime = System.nanoTime();
+    return entry.sqlSource;
+  }
+
+  /**
+   * Cache a SqlSource if absent.
+   *
+   * @param key
+   *          A cache key
+   * @param sqlSource
+   *          A SqlSource to cache
+   *
+   * @return a cached SqlSource (If other thread has already cached, return it)
+   */
+  SqlSource putIfAbsent(K key, SqlSource sqlSource) {
+    Entry cached = entries.putIfAbsent(key, new Entry(sqlSource));
+    if (cached != null) {
+      cached.lastAccessTime = System.nanoTime();
+      return cached.sqlSource;
+    }
+    if (entries.size() > maxSize) {
+      evict();
+    }
+    return sqlSource;
+  }
+
+  /**
+   * Get the number of cached entries.
+   *
+   * @return the number of cached entries
+   */
+  int size() {
+    return entries.size();
+  }
+
+  private void evict() {
+    // Other threads do not wait for the eviction (the cache may exceed the max size temporarily)
+    if (!evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      int excess = entries.size() - maxSize;
+      if (excess <= 0) {
+        return;
+      }
+      // Evict extra entries to reduce the frequency of sorting
+      int evictionCount = Math.min(excess + maxSize / 10, entries.size());
+      List<Map.Entry<K, Entry>> snapshot = new ArrayList<>(entries.entrySet());
+      snapshot.sort(Comparator.comparingLong(x -> x.getValue().lastAccessTime));
+      for (Map.Entry<K, Entry> entry : snapshot.subList(0, evictionCount)) {
+        entries.remove(entry.getKey(), entry.getValue());
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private static class Entry {
+
+    private final SqlSource sqlSource;
+    private volatile long lastAccessTime = System.nanoTime();
+
+    private Entry(SqlSource sqlSource) {
+      this.sqlSource = sqlSource;
+    }
+
+  }
+
+}
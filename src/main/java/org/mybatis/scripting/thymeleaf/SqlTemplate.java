@@ -0,0 +1,492 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+
+import org.mybatis.scripting.thymeleaf.processor.BindVariableRender;
+import org.thymeleaf.IEngineConfiguration;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.AlwaysValidCacheEntryValidity;
+import org.thymeleaf.cache.ICache;
+import org.thymeleaf.cache.ICacheEntryValidity;
+import org.thymeleaf.cache.ICacheManager;
+import org.thymeleaf.cache.TemplateCacheKey;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.context.IEngineContext;
+import org.thymeleaf.dialect.IDialect;
+import org.thymeleaf.engine.TemplateData;
+import org.thymeleaf.engine.TemplateModel;
+import org.thymeleaf.exceptions.TemplateEngineException;
+import org.thymeleaf.exceptions.TemplateInputException;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+import org.thymeleaf.model.IAttribute;
+import org.thymeleaf.model.ICloseElementTag;
+import org.thymeleaf.model.IOpenElementTag;
+import org.thymeleaf.model.IProcessableElementTag;
+import org.thymeleaf.model.ITemplateEnd;
+import org.thymeleaf.model.ITemplateEvent;
+import org.thymeleaf.model.ITemplateStart;
+import org.thymeleaf.model.IText;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ITemplateResolver;
+import org.thymeleaf.templateresolver.TemplateResolution;
+import org.thymeleaf.templateresource.ITemplateResource;
+import org.thymeleaf.util.FastStringWriter;
+
+/**
+ * The compiled sql template created by {@link SqlGenerator#compile(CharSequence)}.
+ * <p>
+ * A template is loaded at first rendering, and subsequent renderings process the loaded template directly (without
+ * template resolution and template cache lookup). A template is loaded via the template cache of the template engine
+ * (using the same cache key as {@link SqlGenerator#generate(CharSequence, Object)}), so a parsed template is shared
+ * with other instances for the same template. When multiple threads load a template that is not cached yet at the same
+ * time, only one thread parses it and other threads wait for it. When the template resolution is not cacheable, a
+ * template is resolved and parsed on every rendering. When the template engine is not supported or pre-processors
+ * (post-processors) are configured, this instance delegates to the template engine on every rendering. This class is
+ * thread-safe.
+ * </p>
+ * <p>
+ * When the parsed template is expired (e.g. the cache TTL is specified) and the template refresh executor is specified
+ * on {@link SqlGenerator}, the expired template keeps serving while the executor resolves and parses the template
+ * again, and it is swapped only if the template content is changed.
+ * </p>
+ *
+ * @since 1.2.1
+ *
+ * @see SqlGenerator#compile(CharSequence)
+ */
+public class SqlTemplate {
+
+  private static final Pattern STRUCTURAL_OPTION_PATTERN = Pattern
+      .compile(",\\s*(padding|array|iterable|tempTable|properties)\\s*=");
+
+  private static final ParsedTemplate NOT_PARSED = new ParsedTemplate(null, null,
+      AlwaysValidCacheEntryValidity.INSTANCE, null);
+
+  private final SqlGenerator sqlGenerator;
+  private final ITemplateEngine templateEngine;
+  private final String template;
+  private volatile ParsedTemplate parsedTemplate;
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+
+  SqlTemplate(SqlGenerator sqlGenerator, ITemplateEngine templateEngine, String template) {
+    this.sqlGenerator = sqlGenerator;
+    this.templateEngine = templateEngine;
+    this.template = template;
+  }
+
+  /**
+   * Get a template SQL (inline SQL or template file path).
+   *
+   * @return a template SQL
+   */
+  public String getTemplate() {
+    return template;
+  }
+
+  /**
+   * Resolve and parse this template in advance.
+   * <p>
+   * By default, a template is resolved and parsed at first rendering. This method is useful for avoiding the cost at
+   * first rendering (e.g. warming up at application startup). When the template resolution is not cacheable (or the
+   * template engine is not supported), this method does nothing.
+   * </p>
+   */
+  public void prepare() {
+    getParsedTemplate();
+  }
+
+  /**
+   * Render a sql.
+   *
+   * @param parameter
+   *          a parameter object
+   *
+   * @return a processed SQL by template engine
+   */
+  public String render(Object parameter) {
+    return render(parameter, null, null);
+  }
+
+  /**
+   * Render a sql.
+   *
+   * @param parameter
+   *          a parameter object
+   * @param customBindVariableBinder
+   *          a binder for a custom bind variable that generated with {@code mb:bind} or {@code mb:param}
+   *
+   * @return a processed SQL by template engine
+   */
+  public String render(Object parameter, BiConsumer<String, Object> customBindVariableBinder) {
+    return render(parameter, customBindVariableBinder, null);
+  }
+
+  /**
+   * Render a sql.
+   *
+   * @param parameter
+   *          a parameter object
+   * @param customVariables
+   *          a custom variables for passing to template engine
+   *
+   * @return a processed SQL by template engine
+   */
+  public String render(Object parameter, Map<String, Object> customVariables) {
+    return render(parameter, null, customVariables);
+  }
+
+  /**
+   * Render a sql.
+   *
+   * @param parameter
+   *          a parameter object
+   * @param customBindVariableBinder
+   *          a binder for a custom bind variable that generated with {@code mb:bind} or {@code mb:param}
+   * @param customVariables
+   *          a custom variables for passing to template engine
+   *
+   * @return a processed SQL by template engine
+   */
+  public String render(Object parameter, BiConsumer<String, Object> customBindVariableBinder,
+      Map<String, Object> customVariables) {
+    return sqlGenerator.generate(this::process, parameter, customBindVariableBinder, customVariables);
+  }
+
+  /**
+   * Render sqls for multiple parameter objects and group results by rendered sql.
+   * <p>
+   * This method renders a sql per parameter object in the same way as {@link #render(Object, BiConsumer)} and only
+   * groups results by identical sql text, so that a statement can be prepared per group for batch processing (e.g.
+   * JDBC batch). The iteration order of returned map is the order in which each distinct sql is first rendered, and
+   * the order of results within a group is the order of specified parameter objects.
+   * </p>
+   *
+   * @param <T>
+   *          the parameter object type
+   * @param <R>
+   *          the result type
+   * @param parameters
+   *          parameter objects
+   * @param resultFactory
+   *          a factory function that creates a result from a parameter object and custom bind variables that
+   *          generated with {@code mb:bind} or {@code mb:param}
+   *
+   * @return results grouped by rendered sql
+   *
+   * @since 1.2.1
+   */
+  public <T, R> Map<String, List<R>> renderAll(List<T> parameters,
+      BiFunction<T, Map<String, Object>, R> resultFactory) {
+    Map<String, List<R>> results = new LinkedHashMap<>();
+    for (T parameter : parameters) {
+      Map<String, Object> customBindVariables = new HashMap<>();
+      String sql = render(parameter, customBindVariables::put);
+      results.computeIfAbsent(sql, k -> new ArrayList<>()).add(resultFactory.apply(parameter, customBindVariables));
+    }
+    return results;
+  }
+
+  /**
+   * Create a straight-line sql from this template without processing by template engine.
+   * <p>
+   * A straight-line template consists of only texts and {@code mb:p} without expression and special option (e.g.
+   * {@code SELECT * FROM names WHERE id = /*[# mb:p="id"]*&#47; 1 /*[/]*&#47;}). The sql of it does not change
+   * as long as each parameter specified by {@code mb:p} is not a collection (and array). This method supports only
+   * the default bind variable render and a template that is parsed once (the template resolution is cacheable and
+   * never expires).
+   * </p>
+   *
+   * @return a straight-line sql (If this template is not a straight-line template, return {@code null})
+   */
+  StraightLineSql toStraightLineSql() {
+    ParsedTemplate parsed = getParsedTemplate();
+    if (parsed == NOT_PARSED || parsed.validity != AlwaysValidCacheEntryValidity.INSTANCE) {
+      return null;
+    }
+    MyBatisDialect dialect = findDialect(parsed, MyBatisDialect.class);
+    if (dialect == null || (dialect.getBindVariableRender() != null
+        && dialect.getBindVariableRender() != BindVariableRender.BuiltIn.MYBATIS)) {
+      return null;
+    }
+    String paramAttributeName = dialect.getPrefix() + ":p";
+    TemplateModel templateModel = parsed.templateModel;
+    StringBuilder sql = new StringBuilder();
+    List<String> parameterPaths = new ArrayList<>();
+    int paramTagDepth = 0;
+    for (int i = 0; i < templateModel.size(); i++) {
+      ITemplateEvent event = templateModel.get(i);
+      if (paramTagDepth > 0) {
+        // A body of mb:p is replaced with a bind variable
+        if (event instanceof IOpenElementTag) {
+          paramTagDepth++;
+        } else if (event instanceof ICloseElementTag) {
+          paramTagDepth--;
+        }
+      } else if (event instanceof IText) {
+        String text = ((IText) event).getText();
+        if (text.contains("[[") || text.contains("[(")) {
+          return null;
+        }
+        sql.append(text);
+      } else if (event instanceof IProcessableElementTag) {
+        IProcessableElementTag tag = (IProcessableElementTag) event;
+        IAttribute[] attributes = tag.getAllAttributes();
+        if (!tag.getElementCompleteName().isEmpty() || attributes.length != 1
+            || !attributes[0].getAttributeCompleteName().equals(paramAttributeName)) {
+          return null;
+        }
+        String value = attributes[0].getValue();
+        if (value == null || value.contains("${") || STRUCTURAL_OPTION_PATTERN.matcher(value).find()) {
+          return null;
+        }
+        int separatorIndex = value.indexOf(',');
+        parameterPaths.add(separatorIndex == -1 ? value : value.substring(0, separatorIndex));
+        sql.append("#{").append(value).append('}');
+        if (event instanceof IOpenElementTag) {
+          paramTagDepth = 1;
+        }
+      } else if (!(event instanceof ITemplateStart) && !(event instanceof ITemplateEnd)) {
+        return null;
+      }
+    }
+    return new StraightLineSql(sql.toString(), parameterPaths, dialect.isIterableParameterExpansion());
+  }
+
+  private static <T extends IDialect> T findDialect(ParsedTemplate parsed, Class<T> dialectType) {
+    for (IDialect dialect : parsed.configuration.getDialects()) {
+      if (dialectType.isInstance(dialect)) {
+        return dialectType.cast(dialect);
+      }
+    }
+    return null;
+  }
+
+  private String process(IContext context) {
+    ParsedTemplate parsed = getParsedTemplate();
+    return parsed == NOT_PARSED ? templateEngine.process(template, context) : parsed.process(context);
+  }
+
+  private ParsedTemplate getParsedTemplate() {
+    ParsedTemplate parsed = parsedTemplate;
+    if (parsed == null || !parsed.isValid()) {
+      Executor refreshExecutor = sqlGenerator.getTemplateRefreshExecutor();
+      if (parsed != null && parsed.validity.isCacheable() && refreshExecutor != null
+          && refresh(parsed, refreshExecutor)) {
+        // Serve an expired template until refreshing is completed
+        return parsed;
+      }
+      parsed = load();
+      parsedTemplate = parsed;
+    }
+    return parsed;
+  }
+
+  private boolean refresh(ParsedTemplate expired, Executor refreshExecutor) {
+    if (!refreshing.compareAndSet(false, true)) {
+      return true;
+    }
+    try {
+      refreshExecutor.execute(() -> {
+        try {
+          ParsedTemplate parsed = load();
+          parsedTemplate = parsed.content != null && parsed.content.equals(expired.content)
+              ? new ParsedTemplate(expired.configuration, expired.templateModel, parsed.validity, expired.content)
+              : parsed;
+        } catch (RuntimeException e) {
+          // Report an error (e.g. template not found) at next rendering
+          parsedTemplate = null;
+        } finally {
+          refreshing.set(false);
+        }
+      });
+      return true;
+    } catch (RejectedExecutionException e) {
+      refreshing.set(false);
+      return false;
+    }
+  }
+
+  private ParsedTemplate load() {
+    if (!(templateEngine instanceof TemplateEngine)) {
+      return NOT_PARSED;
+    }
+    IEngineConfiguration configuration = ((TemplateEngine) templateEngine).getConfiguration();
+    ICacheManager cacheManager = configuration.getCacheManager();
+    ICache<TemplateCacheKey, TemplateModel> templateCache = cacheManager == null ? null
+        : cacheManager.getTemplateCache();
+    // Same key as the template engine uses for processing this template
+    TemplateCacheKey cacheKey = new TemplateCacheKey(null, template, null, 0, 0, null, null);
+    TemplateModel cached = templateCache == null ? null : templateCache.get(cacheKey);
+    if (cached != null) {
+      return hasProcessors(configuration, cached.getTemplateData().getTemplateMode()) ? NOT_PARSED
+          : new ParsedTemplate(configuration, cached, cached.getTemplateData().getValidity(), null);
+    }
+    TemplateResolution resolution = resolve(configuration);
+    if (resolution == null || hasProcessors(configuration, resolution.getTemplateMode())) {
+      return NOT_PARSED;
+    }
+    if (templateCache == null || !resolution.getValidity().isCacheable()) {
+      return parse(configuration, resolution);
+    }
+    return sqlGenerator.loadTemplate(template, () -> {
+      TemplateModel loaded = templateCache.get(cacheKey);
+      if (loaded != null) {
+        return new ParsedTemplate(configuration, loaded, loaded.getTemplateData().getValidity(), null);
+      }
+      ParsedTemplate parsed = parse(configuration, resolution);
+      templateCache.put(cacheKey, parsed.templateModel);
+      return parsed;
+    });
+  }
+
+  private static boolean hasProcessors(IEngineConfiguration configuration, TemplateMode templateMode) {
+    // Pre-processors and post-processors are applied only when processing via template engine
+    return !configuration.getPreProcessors(templateMode).isEmpty()
+        || !configuration.getPostProcessors(templateMode).isEmpty();
+  }
+
+  private ParsedTemplate parse(IEngineConfiguration configuration, TemplateResolution resolution) {
+    TemplateData templateData = new TemplateData(template, null, resolution.getTemplateResource(),
+        resolution.getTemplateMode(), resolution.getValidity());
+    String content = read(resolution.getTemplateResource());
+    TemplateModel templateModel = configuration.getTemplateManager().parseString(templateData, content, 0, 0, null,
+        false);
+    return new ParsedTemplate(configuration, templateModel, resolution.getValidity(), content);
+  }
+
+  private TemplateResolution resolve(IEngineConfiguration configuration) {
+    for (ITemplateResolver templateResolver : configuration.getTemplateResolvers()) {
+      TemplateResolution resolution = templateResolver.resolveTemplate(configuration, null, template, null);
+      if (resolution != null) {
+        return resolution;
+      }
+    }
+    return null;
+  }
+
+  private String read(ITemplateResource templateResource) {
+    try (Reader reader = templateResource.reader()) {
+      StringBuilder sb = new StringBuilder();
+      char[] buffer = new char[4096];
+      int length;
+      while ((length = reader.read(buffer)) != -1) {
+        sb.append(buffer, 0, length);
+      }
+      return sb.toString();
+    } catch (IOException e) {
+      throw new TemplateInputException("An error happened during template parsing", template, e);
+    }
+  }
+
+  /**
+   * The sql of straight-line template.
+   *
+   * @see SqlTemplate#toStraightLineSql()
+   */
+  static class StraightLineSql {
+
+    private final String sql;
+    private final List<String> parameterPaths;
+    private final boolean iterableExpansion;
+
+    private StraightLineSql(String sql, List<String> parameterPaths, boolean iterableExpansion) {
+      this.sql = sql;
+      this.parameterPaths = parameterPaths;
+      this.iterableExpansion = iterableExpansion;
+    }
+
+    /**
+     * Get a sql that contains bind variables.
+     *
+     * @return a sql that contains bind variables
+     */
+    String getSql() {
+      return sql;
+    }
+
+    /**
+     * Get parameter paths specified by {@code mb:p}.
+     *
+     * @return parameter paths
+     */
+    List<String> getParameterPaths() {
+      return parameterPaths;
+    }
+
+    /**
+     * Get whether the {@code mb:p} expands an iterable (that is not a collection) and stream object.
+     *
+     * @return If expand an iterable and stream object, return {@code true}
+     */
+    boolean isIterableExpansion() {
+      return iterableExpansion;
+    }
+
+  }
+
+  private static class ParsedTemplate {
+
+    private final IEngineConfiguration configuration;
+    private final TemplateModel templateModel;
+    private final ICacheEntryValidity validity;
+    private final String content;
+
+    private ParsedTemplate(IEngineConfiguration configuration, TemplateModel templateModel,
+        ICacheEntryValidity validity, String content) {
+      this.configuration = configuration;
+      this.templateModel = templateModel;
+      this.validity = validity;
+      this.content = content;
+    }
+
+    private boolean isValid() {
+      return validity.isCacheStillValid();
+    }
+
+    private String process(IContext context) {
+      TemplateData templateData = templateModel.getTemplateData();
+      Writer writer = new FastStringWriter(100);
+      try {
+        IEngineContext engineContext = configuration.getEngineContextFactory().createEngineContext(configuration,
+            templateData, null, context);
+        configuration.getTemplateManager().process(templateModel, engineContext, writer);
+      } catch (TemplateEngineException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        throw new TemplateProcessingException("Exception processing template", templateData.getTemplate(), e);
+      }
+      return writer.toString();
+    }
+
+  }
+
+}
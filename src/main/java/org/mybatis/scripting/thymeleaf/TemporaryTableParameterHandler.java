@@ -0,0 +1,193 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeException;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+
+/**
+ * The {@code ParameterHandler} that populates temporary tables registered by {@code mb:p} before setting parameters.
+ * <p>
+ * Values are inserted using a JDBC batch on the same connection as the target statement, after deleting all rows
+ * from the temporary table. The temporary table should be created in advance.
+ * </p>
+ * <p>
+ * Temporary table bindings are handed over from {@link ThymeleafSqlSource} via an additional parameter of
+ * {@code BoundSql} with a parameter mapping for it. Because the MyBatis creates a cache key of statement results using
+ * values of parameter mappings, results are cached per values of temporary tables. The parameter mapping is excluded
+ * when setting parameters into a statement.
+ * </p>
+ *
+ * @since 1.2.1
+ *
+ * @see MyBatisBindingContext#addTemporaryTableBinding(String, String, Collection)
+ */
+class TemporaryTableParameterHandler implements ParameterHandler {
+
+  private static final int BATCH_SIZE = 1000;
+
+  private static final String BINDINGS_PARAMETER_NAME = "__temporaryTableBindings";
+
+  private final ParameterHandler delegate;
+  private final TypeHandlerRegistry typeHandlerRegistry;
+  private final JdbcType jdbcTypeForNull;
+  private final Collection<MyBatisBindingContext.TemporaryTableBinding> temporaryTableBindings;
+
+  /**
+   * Constructor.
+   *
+   * @param mappedStatement
+   *          A target mapped statement
+   * @param parameterObject
+   *          A parameter object
+   * @param boundSql
+   *          A bound sql of target statement
+   * @param temporaryTableBindings
+   *          Temporary table bindings to populate
+   */
+  TemporaryTableParameterHandler(MappedStatement mappedStatement, Object parameterObject, BoundSql boundSql,
+      Collection<MyBatisBindingContext.TemporaryTableBinding> temporaryTableBindings) {
+    this.delegate = new DefaultParameterHandler(mappedStatement, parameterObject,
+        unbind(mappedStatement.getConfiguration(), boundSql));
+    this.typeHandlerRegistry = mappedStatement.getConfiguration().getTypeHandlerRegistry();
+    this.jdbcTypeForNull = mappedStatement.getConfiguration().getJdbcTypeForNull();
+    this.temporaryTableBindings = temporaryTableBindings;
+  }
+
+  /**
+   * Bind temporary table bindings to specified bound sql.
+   *
+   * @param configuration
+   *          A MyBatis configuration
+   * @param boundSql
+   *          A bound sql of target statement
+   * @param temporaryTableBindings
+   *          Temporary table bindings to populate
+   *
+   * @return a bound sql that bound temporary table bindings
+   */
+  static BoundSql bind(Configuration configuration, BoundSql boundSql,
+      Collection<MyBatisBindingContext.TemporaryTableBinding> temporaryTableBindings) {
+    List<ParameterMapping> parameterMappings = new ArrayList<>(boundSql.getParameterMappings());
+    parameterMappings.add(new ParameterMapping.Builder(configuration, BINDINGS_PARAMETER_NAME, Object.class).build());
+    BoundSql newBoundSql = new BoundSql(configuration, boundSql.getSql(), parameterMappings,
+        boundSql.getParameterObject());
+    boundSql.getAdditionalParameters().forEach(newBoundSql::setAdditionalParameter);
+    newBoundSql.setAdditionalParameter(BINDINGS_PARAMETER_NAME, new ArrayList<>(temporaryTableBindings));
+    return newBoundSql;
+  }
+
+  /**
+   * Get temporary table bindings bound to specified bound sql.
+   *
+   * @param boundSql
+   *          A bound sql of target statement
+   *
+   * @return temporary table bindings (If not bound, return {@code null})
+   */
+  @SuppressWarnings("unchecked")
+  static Collection<MyBatisBindingContext.TemporaryTableBinding> getBindings(BoundSql boundSql) {
+    return boundSql.hasAdditionalParameter(BINDINGS_PARAMETER_NAME)
+        ? (Collection<MyBatisBindingContext.TemporaryTableBinding>) boundSql
+            .getAdditionalParameter(BINDINGS_PARAMETER_NAME)
+        : null;
+  }
+
+  private static BoundSql unbind(Configuration configuration, BoundSql boundSql) {
+    List<ParameterMapping> parameterMappings = new ArrayList<>(boundSql.getParameterMappings());
+    parameterMappings.removeIf(x -> BINDINGS_PARAMETER_NAME.equals(x.getProperty()));
+    BoundSql newBoundSql = new BoundSql(configuration, boundSql.getSql(), parameterMappings,
+        boundSql.getParameterObject());
+    boundSql.getAdditionalParameters().forEach(newBoundSql::setAdditionalParameter);
+    return newBoundSql;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Object getParameterObject() {
+    return delegate.getParameterObject();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setParameters(PreparedStatement ps) throws SQLException {
+    Connection connection = ps.getConnection();
+    for (MyBatisBindingContext.TemporaryTableBinding binding : temporaryTableBindings) {
+      populate(connection, binding);
+    }
+    delegate.setParameters(ps);
+  }
+
+  private void populate(Connection connection, MyBatisBindingContext.TemporaryTableBinding binding)
+      throws SQLException {
+    try (PreparedStatement ps = connection.prepareStatement("DELETE FROM " + binding.getTable())) {
+      ps.executeUpdate();
+    }
+    String sql = "INSERT INTO " + binding.getTable() + " (" + binding.getColumn() + ") VALUES (?)";
+    try (PreparedStatement ps = connection.prepareStatement(sql)) {
+      int count = 0;
+      for (Object value : binding.getValues()) {
+        setValue(ps, value);
+        ps.addBatch();
+        if (++count % BATCH_SIZE == 0) {
+          ps.executeBatch();
+        }
+      }
+      if (count % BATCH_SIZE != 0) {
+        ps.executeBatch();
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void setValue(PreparedStatement ps, Object value) throws SQLException {
+    if (value == null) {
+      // Same as the DefaultParameterHandler (some drivers do not accept the OTHER type)
+      ps.setNull(1, jdbcTypeForNull.TYPE_CODE);
+      return;
+    }
+    TypeHandler<Object> typeHandler = (TypeHandler<Object>) typeHandlerRegistry.getTypeHandler(value.getClass());
+    if (typeHandler == null) {
+      ps.setObject(1, value);
+      return;
+    }
+    try {
+      typeHandler.setParameter(ps, 1, value, null);
+    } catch (TypeException e) {
+      throw new SQLException("Could not set a value into temporary table. Cause: " + e, e);
+    }
+  }
+
+}
@@ -15,6 +15,26 @@
  */
 package org.mybatis.scripting.thymeleaf;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.apache.ibatis.annotations.DeleteProvider;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.annotations.UpdateProvider;
+import org.apache.ibatis.builder.annotation.ProviderSqlSource;
 import org.apache.ibatis.executor.parameter.ParameterHandler;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.MappedStatement;
@@ -33,15 +53,23 @@ import org.thymeleaf.ITemplateEngine;
  *
  * @version 1.0.0
  */
-public class ThymeleafLanguageDriver implements LanguageDriver {
+public class ThymeleafLanguageDriver implements LanguageDriver, AutoCloseable {
+
+  private static final List<Class<? extends Annotation>> PROVIDER_ANNOTATION_TYPES = Arrays.asList(SelectProvider.class,
+      InsertProvider.class, UpdateProvider.class, DeleteProvider.class);
 
   private final SqlGenerator sqlGenerator;
+  private final ThymeleafLanguageDriverConfig.SqlSourceConfig sqlSourceConfig;
+  private final SqlSourceCache<SqlSourceKey> sqlSourceCache;
 
   /**
    * Constructor for creating instance with default {@code TemplateEngine}.
    */
   public ThymeleafLanguageDriver() {
-    this.sqlGenerator = configure(new SqlGenerator(ThymeleafLanguageDriverConfig.newInstance()));
+    ThymeleafLanguageDriverConfig config = ThymeleafLanguageDriverConfig.newInstance();
+    this.sqlGenerator = configure(new SqlGenerator(config));
+    this.sqlSourceConfig = config.getSqlSource();
+    this.sqlSourceCache = new SqlSourceCache<>(sqlSourceConfig.getInstanceCacheSize());
   }
 
   /**
@@ -52,6 +80,8 @@ public class ThymeleafLanguageDriver implements LanguageDriver {
    */
   public ThymeleafLanguageDriver(ThymeleafLanguageDriverConfig config) {
     this.sqlGenerator = configure(new SqlGenerator(config));
+    this.sqlSourceConfig = config.getSqlSource();
+    this.sqlSourceCache = new SqlSourceCache<>(sqlSourceConfig.getInstanceCacheSize());
     TemplateFilePathProvider.setLanguageDriverConfig(config);
   }
 
@@ -63,6 +93,8 @@ public class ThymeleafLanguageDriver implements LanguageDriver {
    */
   public ThymeleafLanguageDriver(ITemplateEngine templateEngine) {
     this.sqlGenerator = configure(new SqlGenerator(templateEngine));
+    this.sqlSourceConfig = new ThymeleafLanguageDriverConfig.SqlSourceConfig();
+    this.sqlSourceCache = new SqlSourceCache<>(sqlSourceConfig.getInstanceCacheSize());
   }
 
   private SqlGenerator configure(SqlGenerator sqlGenerator) {
@@ -76,23 +108,446 @@ public class ThymeleafLanguageDriver implements LanguageDriver {
   @Override
   public ParameterHandler createParameterHandler(MappedStatement mappedStatement, Object parameterObject,
       BoundSql boundSql) {
+    Collection<MyBatisBindingContext.TemporaryTableBinding> temporaryTableBindings = TemporaryTableParameterHandler
+        .getBindings(boundSql);
+    if (temporaryTableBindings != null) {
+      return new TemporaryTableParameterHandler(mappedStatement, parameterObject, boundSql, temporaryTableBindings);
+    }
     return new DefaultParameterHandler(mappedStatement, parameterObject, boundSql);
   }
 
+  /**
+   * Get bound sqls of specified statement for multiple parameter objects and group them by sql.
+   * <p>
+   * This method calls {@link MappedStatement#getBoundSql(Object)} per parameter object and only groups results by
+   * identical sql text, so that a statement can be prepared per group and bound sqls within a group can be added to
+   * the same batch (e.g. JDBC batch). The iteration order of returned map is the order in which each distinct sql
+   * first appears, and the order of bound sqls within a group is the order of specified parameter objects.
+   * </p>
+   *
+   * @param mappedStatement
+   *          A target mapped statement
+   * @param parameterObjects
+   *          parameter objects
+   *
+   * @return bound sqls grouped by sql
+   *
+   * @since 1.2.1
+   */
+  public Map<String, List<BoundSql>> renderAll(MappedStatement mappedStatement, List<?> parameterObjects) {
+    Map<String, List<BoundSql>> boundSqlGroups = new LinkedHashMap<>();
+    for (Object parameterObject : parameterObjects) {
+      BoundSql boundSql = mappedStatement.getBoundSql(parameterObject);
+      boundSqlGroups.computeIfAbsent(boundSql.getSql(), k -> new ArrayList<>()).add(boundSql);
+    }
+    return boundSqlGroups;
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public SqlSource createSqlSource(Configuration configuration, XNode script, Class<?> parameterType) {
-    return createSqlSource(configuration, script.getNode().getTextContent(), parameterType);
+    // A SqlSource for XML mapper is created only once per statement, so it is not cached
+    return newSqlSource(configuration, script.getNode().getTextContent(), parameterType);
   }
 
   /**
    * {@inheritDoc}
+   * <p>
+   * A created SqlSource is cached per script and parameter type (since 1.2.1), because the SQL provider (e.g.
+   * {@link TemplateFilePathProvider}) calls this method on every statement execution.
+   * </p>
+   *
+   * @see ThymeleafLanguageDriverConfig.SqlSourceConfig#getInstanceCacheSize()
    */
   @Override
   public SqlSource createSqlSource(Configuration configuration, String script, Class<?> parameterType) {
-    return new ThymeleafSqlSource(configuration, sqlGenerator, script.trim(), parameterType);
+    int maxSize = sqlSourceConfig.getInstanceCacheSize();
+    if (maxSize <= 0) {
+      return newSqlSource(configuration, script, parameterType);
+    }
+    SqlSourceKey key = new SqlSourceKey(configuration, script, parameterType);
+    SqlSource sqlSource = sqlSourceCache.get(key);
+    if (sqlSource == null) {
+      sqlSource = sqlSourceCache.putIfAbsent(key, newSqlSource(configuration, script, parameterType));
+    }
+    return sqlSource;
+  }
+
+  /**
+   * Release resources held by this language driver.
+   * <p>
+   * This method stops watching template files when the {@code template-file.watch-enabled} is {@code true}, so it
+   * should be called on shutdown of an application (e.g. a destroy method of a bean) because the MyBatis does not
+   * close a language driver.
+   * </p>
+   *
+   * @since 1.2.1
+   *
+   * @see SqlGenerator#close()
+   */
+  @Override
+  public void close() {
+    sqlGenerator.close();
+  }
+
+  /**
+   * Compile templates of all mapped statements that use this language driver on the common pool of
+   * {@link ForkJoinPool}.
+   *
+   * @param configuration
+   *          A configuration that mapped statements are registered
+   *
+   * @return a result of compilation
+   *
+   * @since 1.2.1
+   *
+   * @see #compileTemplates(Configuration, ForkJoinPool)
+   */
+  public CompilationReport compileTemplates(Configuration configuration) {
+    return compileTemplates(configuration, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Compile templates of all mapped statements that use this language driver in parallel.
+   * <p>
+   * By default, a template is resolved and parsed at first execution of each statement. This method resolves and
+   * parses templates in advance (e.g. after building a {@code SqlSessionFactory}), so that first executions can skip
+   * it. The supported statements are statements that defined with a template (inline SQL or template file path) in
+   * XML mapper or mapper annotation, and statements that provided by {@link TemplateFilePathProvider}. A statement
+   * provided by {@link TemplateFilePathProvider} is compiled into the template cache of the template engine, and it is
+   * shared by SqlSources that are created at execution regardless of parameter type (so the max size of template cache
+   * should be large enough to hold all template files). Other statements (e.g. a statement provided by other SQL
+   * provider) are reported as skipped statements. This method does not throw an exception even if a
+   * template cannot be compiled (e.g. a template file is not found), and reports it as a failure.
+   * </p>
+   *
+   * @param configuration
+   *          A configuration that mapped statements are registered
+   * @param pool
+   *          A pool for compiling templates
+   *
+   * @return a result of compilation
+   *
+   * @since 1.2.1
+   *
+   * @see SqlGeneratorConfig.TemplateCacheConfig#getMaxSize()
+   */
+  public CompilationReport compileTemplates(Configuration configuration, ForkJoinPool pool) {
+    long startTime = System.nanoTime();
+    // Mapped statements contains duplicated entries (with short name) and ambiguity markers
+    Map<String, MappedStatement> mappedStatements = new TreeMap<>();
+    Collection<?> candidates = configuration.getMappedStatements();
+    for (Object candidate : candidates) {
+      if (candidate instanceof MappedStatement && ((MappedStatement) candidate).getLang() == this) {
+        MappedStatement mappedStatement = (MappedStatement) candidate;
+        mappedStatements.put(mappedStatement.getId(), mappedStatement);
+      }
+    }
+    List<ForkJoinTask<Compilation>> tasks = new ArrayList<>(mappedStatements.size());
+    mappedStatements.values().forEach(x -> tasks.add(pool.submit(() -> compile(configuration, x))));
+    Map<String, Duration> compiledStatements = new LinkedHashMap<>();
+    Map<String, RuntimeException> failedStatements = new LinkedHashMap<>();
+    List<String> skippedStatements = new ArrayList<>();
+    for (ForkJoinTask<Compilation> task : tasks) {
+      Compilation compilation = task.join();
+      if (compilation.failure != null) {
+        failedStatements.put(compilation.statementId, compilation.failure);
+      } else if (compilation.elapsedTime == null) {
+        skippedStatements.add(compilation.statementId);
+      } else {
+        compiledStatements.put(compilation.statementId, compilation.elapsedTime);
+      }
+    }
+    return new CompilationReport(compiledStatements, failedStatements, skippedStatements,
+        Duration.ofNanos(System.nanoTime() - startTime));
+  }
+
+  /**
+   * Get statistics of the parsed SQL cache (the cache sized by the {@code sql-source.parameter-mapping-cache-size}) of
+   * all mapped statements that use this language driver.
+   * <p>
+   * The statistics are reported for statements that render SQL dynamically at execution. A statement that does not
+   * render SQL at execution (e.g. a straight-line SQL) and a statement provided by SQL provider are not reported.
+   * </p>
+   *
+   * @param configuration
+   *          A configuration that mapped statements are registered
+   *
+   * @return statistics per statement id (ordered by statement id)
+   *
+   * @since 1.2.1
+   */
+  public Map<String, ParameterMappingCacheStats> getParameterMappingCacheStats(Configuration configuration) {
+    Map<String, ParameterMappingCacheStats> stats = new TreeMap<>();
+    Collection<?> candidates = configuration.getMappedStatements();
+    for (Object candidate : candidates) {
+      if (candidate instanceof MappedStatement && ((MappedStatement) candidate).getLang() == this
+          && ((MappedStatement) candidate).getSqlSource() instanceof ThymeleafSqlSource) {
+        MappedStatement mappedStatement = (MappedStatement) candidate;
+        ParameterMappingCache cache = ((ThymeleafSqlSource) mappedStatement.getSqlSource())
+            .getParameterMappingCache();
+        stats.put(mappedStatement.getId(),
+            new ParameterMappingCacheStats(cache.getHitCount(), cache.getMissCount(), cache.size()));
+      }
+    }
+    return Collections.unmodifiableMap(stats);
+  }
+
+  private Compilation compile(Configuration configuration, MappedStatement mappedStatement) {
+    long startTime = System.nanoTime();
+    try {
+      SqlSource sqlSource = mappedStatement.getSqlSource();
+      if (sqlSource instanceof ProviderSqlSource) {
+        String templateFilePath = getTemplateFilePath(configuration, mappedStatement.getId());
+        if (templateFilePath == null) {
+          return new Compilation(mappedStatement.getId(), null, null);
+        }
+        // A SqlSource is created per parameter type at execution, so compile a template that can be shared by them
+        sqlGenerator.compile(templateFilePath).prepare();
+      } else if (sqlSource instanceof ThymeleafSqlSource) {
+        ((ThymeleafSqlSource) sqlSource).prepare();
+      } else {
+        // e.g. a SqlSource for straight-line template is compiled at creation
+        return new Compilation(mappedStatement.getId(), null, null);
+      }
+    } catch (RuntimeException e) {
+      return new Compilation(mappedStatement.getId(), null, e);
+    }
+    return new Compilation(mappedStatement.getId(), Duration.ofNanos(System.nanoTime() - startTime), null);
+  }
+
+  private static String getTemplateFilePath(Configuration configuration, String statementId) {
+    int separatorIndex = statementId.lastIndexOf('.');
+    if (separatorIndex == -1) {
+      return null;
+    }
+    String namespace = statementId.substring(0, separatorIndex);
+    String methodName = statementId.substring(separatorIndex + 1);
+    for (Class<?> mapperType : configuration.getMapperRegistry().getMappers()) {
+      if (!mapperType.getName().equals(namespace)) {
+        continue;
+      }
+      for (Method method : mapperType.getMethods()) {
+        if (method.getName().equals(methodName) && !method.isBridge() && !method.isDefault()
+            && isTemplateFilePathProvided(configuration, method)) {
+          return TemplateFilePathProvider.providePath(mapperType, method, configuration.getDatabaseId());
+        }
+      }
+    }
+    return null;
+  }
+
+  private static boolean isTemplateFilePathProvided(Configuration configuration, Method method) {
+    // Select a provider annotation in the same way as the MyBatis (prefer an annotation for current database)
+    Annotation provider = null;
+    for (Class<? extends Annotation> providerAnnotationType : PROVIDER_ANNOTATION_TYPES) {
+      for (Annotation candidate : method.getAnnotationsByType(providerAnnotationType)) {
+        String databaseId = (String) getAnnotationAttribute(candidate, "databaseId");
+        if (databaseId.equals(configuration.getDatabaseId())) {
+          provider = candidate;
+        } else if (databaseId.isEmpty() && provider == null) {
+          provider = candidate;
+        }
+      }
+    }
+    if (provider == null) {
+      return false;
+    }
+    String providerMethod = (String) getAnnotationAttribute(provider, "method");
+    if (!providerMethod.isEmpty() && !providerMethod.equals("provideSql")) {
+      return false;
+    }
+    Class<?> providerType = (Class<?>) getAnnotationAttribute(provider, "type");
+    if (providerType == void.class) {
+      providerType = (Class<?>) getAnnotationAttribute(provider, "value");
+    }
+    if (providerType == void.class) {
+      providerType = configuration.getDefaultSqlProviderType();
+    }
+    return providerType != null && TemplateFilePathProvider.class.isAssignableFrom(providerType);
+  }
+
+  private static Object getAnnotationAttribute(Annotation annotation, String name) {
+    try {
+      return annotation.annotationType().getMethod(name).invoke(annotation);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(
+          String.format("Cannot get the '%s' attribute of '%s'", name, annotation.annotationType().getName()), e);
+    }
+  }
+
+  private SqlSource newSqlSource(Configuration configuration, String script, Class<?> parameterType) {
+    ThymeleafSqlSource sqlSource = new ThymeleafSqlSource(configuration, sqlGenerator, script.trim(), parameterType,
+        sqlSourceConfig);
+    return sqlSource.isStatic() ? sqlSource.getStaticSqlSource() : sqlSource;
+  }
+
+  /**
+   * The result of template compilation.
+   *
+   * @since 1.2.1
+   *
+   * @see ThymeleafLanguageDriver#compileTemplates(Configuration, ForkJoinPool)
+   */
+  public static class CompilationReport {
+
+    private final Map<String, Duration> compiledStatements;
+    private final Map<String, RuntimeException> failedStatements;
+    private final List<String> skippedStatements;
+    private final Duration elapsedTime;
+
+    private CompilationReport(Map<String, Duration> compiledStatements,
+        Map<String, RuntimeException> failedStatements, List<String> skippedStatements, Duration elapsedTime) {
+      this.compiledStatements = Collections.unmodifiableMap(compiledStatements);
+      this.failedStatements = Collections.unmodifiableMap(failedStatements);
+      this.skippedStatements = Collections.unmodifiableList(skippedStatements);
+      this.elapsedTime = elapsedTime;
+    }
+
+    /**
+     * Get compiled statements.
+     *
+     * @return elapsed times of compilation per statement id (ordered by statement id)
+     */
+    public Map<String, Duration> getCompiledStatements() {
+      return compiledStatements;
+    }
+
+    /**
+     * Get failed statements.
+     *
+     * @return causes of failure per statement id (ordered by statement id)
+     */
+    public Map<String, RuntimeException> getFailedStatements() {
+      return failedStatements;
+    }
+
+    /**
+     * Get skipped statements that are not supported or do not need to compile.
+     *
+     * @return skipped statement ids (ordered by statement id)
+     */
+    public List<String> getSkippedStatements() {
+      return skippedStatements;
+    }
+
+    /**
+     * Get an elapsed time of whole compilation.
+     *
+     * @return an elapsed time of whole compilation
+     */
+    public Duration getElapsedTime() {
+      return elapsedTime;
+    }
+
+    /**
+     * Return whether all templates are compiled successfully.
+     *
+     * @return If there is no failed statement, return {@code true}
+     */
+    public boolean isSuccessful() {
+      return failedStatements.isEmpty();
+    }
+
+  }
+
+  /**
+   * The statistics of the parsed SQL cache of a SqlSource.
+   *
+   * @since 1.2.1
+   *
+   * @see ThymeleafLanguageDriver#getParameterMappingCacheStats(Configuration)
+   */
+  public static class ParameterMappingCacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final int size;
+
+    private ParameterMappingCacheStats(long hitCount, long missCount, int size) {
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.size = size;
+    }
+
+    /**
+     * Get the number of renderings that reused a cached parsed SQL.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+      return hitCount;
+    }
+
+    /**
+     * Get the number of renderings that parsed a rendered SQL (If the cache is disabled, always return zero).
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+      return missCount;
+    }
+
+    /**
+     * Get the number of cached parsed SQL.
+     *
+     * @return the number of cached entries
+     */
+    public int getSize() {
+      return size;
+    }
+
+  }
+
+  private static class Compilation {
+
+    private final String statementId;
+    private final Duration elapsedTime;
+    private final RuntimeException failure;
+
+    private Compilation(String statementId, Duration elapsedTime, RuntimeException failure) {
+      this.statementId = statementId;
+      this.elapsedTime = elapsedTime;
+      this.failure = failure;
+    }
+
+  }
+
+  private static class SqlSourceKey {
+
+    private final Configuration configuration;
+    private final String script;
+    private final Class<?> parameterType;
+    private final int hashCode;
+
+    private SqlSourceKey(Configuration configuration, String script, Class<?> parameterType) {
+      this.configuration = configuration;
+      this.script = script;
+      this.parameterType = parameterType;
+      this.hashCode = 31 * (31 * System.identityHashCode(configuration) + script.hashCode())
+          + Objects.hashCode(parameterType);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof SqlSourceKey)) {
+        return false;
+      }
+      SqlSourceKey other = (SqlSourceKey) o;
+      return configuration == other.configuration && parameterType == other.parameterType
+          && script.equals(other.script);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
   }
 
 }
@@ -32,11 +32,27 @@ public class ThymeleafLanguageDriverConfig extends SqlGeneratorConfig {
    */
   private final TemplateFileConfig templateFile = new TemplateFileConfig();
 
+  /**
+   * SqlSource configuration.
+   */
+  private final SqlSourceConfig sqlSource = new SqlSourceConfig();
+
   @Override
   public TemplateFileConfig getTemplateFile() {
     return templateFile;
   }
 
+  /**
+   * Get a SqlSource configuration.
+   *
+   * @return a SqlSource configuration
+   *
+   * @since 1.2.1
+   */
+  public SqlSourceConfig getSqlSource() {
+    return sqlSource;
+  }
+
   /**
    * Template file configuration for language driver of the MyBatis.
    *
@@ -92,6 +108,11 @@ public class ThymeleafLanguageDriverConfig extends SqlGeneratorConfig {
        */
       private boolean cacheEnabled = true;
 
+      /**
+       * Whether resolve a template file path using an index of template files.
+       */
+      private boolean indexEnabled;
+
       /**
        * Get a prefix for adding to template file path.
        * <p>
@@ -205,6 +226,199 @@ public class ThymeleafLanguageDriverConfig extends SqlGeneratorConfig {
         this.cacheEnabled = cacheEnabled;
       }
 
+      /**
+       * Get whether resolve a template file path using an index of template files.
+       * <p>
+       * If enabled, template files ({@code *.sql}) are listed once per directory using the
+       * {@link org.apache.ibatis.io.VFS} of MyBatis, and the existence of template file (including fallback paths) is
+       * checked using this index instead of looking up the class loader per candidate path. When the base directory
+       * and the prefix have a directory part, all template files under it are listed at once; otherwise template files
+       * are listed per parent directory of template file (e.g. per mapper). When template files cannot be listed (e.g.
+       * a directory that does not exist), the existence is checked using the class loader. Default is {@code false}.
+       * </p>
+       *
+       * @return If resolve using an index, return {@code true}
+       *
+       * @since 1.2.1
+       */
+      public boolean isIndexEnabled() {
+        return indexEnabled;
+      }
+
+      /**
+       * Set whether resolve a template file path using an index of template files.
+       *
+       * @param indexEnabled
+       *          If want to resolve using an index, set {@code true}
+       *
+       * @since 1.2.1
+       */
+      public void setIndexEnabled(boolean indexEnabled) {
+        this.indexEnabled = indexEnabled;
+      }
+
+    }
+
+  }
+
+  /**
+   * SqlSource configuration.
+   *
+   * @since 1.2.1
+   */
+  public static class SqlSourceConfig {
+
+    /**
+     * The maximum number of parsed SQL (parameter mappings) cached per SqlSource.
+     */
+    private int parameterMappingCacheSize = 16;
+
+    /**
+     * Whether bind a parameter specified by {@code mb:p} directly (without parsing a bind variable expression).
+     */
+    private boolean directBindingEnabled;
+
+    /**
+     * The number of elements over which a collection specified by {@code mb:p} is bound via a temporary table.
+     */
+    private int temporaryTableThreshold;
+
+    /**
+     * Whether use a static SqlSource for a straight-line template.
+     */
+    private boolean staticSqlSourceEnabled = true;
+
+    /**
+     * The maximum number of SqlSource instances cached per language driver.
+     */
+    private int instanceCacheSize = 4096;
+
+    /**
+     * Get the maximum number of parsed SQL (parameter mappings) cached per SqlSource.
+     * <p>
+     * A parsed SQL is cached per rendered SQL variant (in direct binding mode, parameter mappings are cached per
+     * rendered SQL variant and parameter bindings). If specify zero or less, the cache is disabled. Default is
+     * {@code 16}.
+     * </p>
+     *
+     * @return the maximum number of parsed SQL cached per SqlSource
+     */
+    public int getParameterMappingCacheSize() {
+      return parameterMappingCacheSize;
+    }
+
+    /**
+     * Set the maximum number of parsed SQL (parameter mappings) cached per SqlSource.
+     *
+     * @param parameterMappingCacheSize
+     *          the maximum number of parsed SQL cached per SqlSource
+     */
+    public void setParameterMappingCacheSize(int parameterMappingCacheSize) {
+      this.parameterMappingCacheSize = parameterMappingCacheSize;
+    }
+
+    /**
+     * Get whether bind a parameter specified by {@code mb:p} directly.
+     * <p>
+     * If enabled, the {@code mb:p} renders {@code ?} and registers a parameter mapping instead of rendering a bind
+     * variable expression such as {@code #{id}}, so the rendered SQL does not need to be parsed again. When a bind
+     * variable expression is found in rendered SQL (e.g. written in template directly), this feature is disabled on
+     * that SqlSource. This feature is applied only when use the default bind variable render. Default is
+     * {@code false}.
+     * </p>
+     *
+     * @return If bind a parameter directly, return {@code true}
+     */
+    public boolean isDirectBindingEnabled() {
+      return directBindingEnabled;
+    }
+
+    /**
+     * Set whether bind a parameter specified by {@code mb:p} directly.
+     *
+     * @param directBindingEnabled
+     *          If bind a parameter directly, set {@code true}
+     */
+    public void setDirectBindingEnabled(boolean directBindingEnabled) {
+      this.directBindingEnabled = directBindingEnabled;
+    }
+
+    /**
+     * Get the number of elements over which a collection specified by {@code mb:p} is bound via a temporary table.
+     * <p>
+     * When a collection that has more elements than this value is specified with the {@code tempTable} option of the
+     * {@code mb:p}, its elements are inserted into the specified temporary table using a JDBC batch and the
+     * {@code mb:p} renders a sub-query that selects from the table instead of rendering many bind variables. If
+     * specify zero or less, this feature is disabled. Default is {@code 0}.
+     * </p>
+     *
+     * @return the number of elements over which a collection is bound via a temporary table
+     */
+    public int getTemporaryTableThreshold() {
+      return temporaryTableThreshold;
+    }
+
+    /**
+     * Set the number of elements over which a collection specified by {@code mb:p} is bound via a temporary table.
+     *
+     * @param temporaryTableThreshold
+     *          the number of elements over which a collection is bound via a temporary table
+     */
+    public void setTemporaryTableThreshold(int temporaryTableThreshold) {
+      this.temporaryTableThreshold = temporaryTableThreshold;
+    }
+
+    /**
+     * Get whether use a static SqlSource for a straight-line template.
+     * <p>
+     * A straight-line template consists of only texts and {@code mb:p} without expression and special option (e.g.
+     * {@code SELECT * FROM names WHERE id = /*[# mb:p="id"]*&#47; 1 /*[/]*&#47;}). If enabled, such template is parsed
+     * into a static SqlSource when creating a SqlSource, and it is used without processing by template engine while
+     * each parameter specified by {@code mb:p} is not a collection (and array). A template that has no syntax of
+     * template engine is always processed by a static SqlSource. Default is {@code true}.
+     * </p>
+     *
+     * @return If use a static SqlSource, return {@code true}
+     */
+    public boolean isStaticSqlSourceEnabled() {
+      return staticSqlSourceEnabled;
+    }
+
+    /**
+     * Set whether use a static SqlSource for a straight-line template.
+     *
+     * @param staticSqlSourceEnabled
+     *          If use a static SqlSource, set {@code true}
+     */
+    public void setStaticSqlSourceEnabled(boolean staticSqlSourceEnabled) {
+      this.staticSqlSourceEnabled = staticSqlSourceEnabled;
+    }
+
+    /**
+     * Get the maximum number of SqlSource instances cached per language driver.
+     * <p>
+     * A SqlSource created from a script string (e.g. a template file path returned by the
+     * {@link org.mybatis.scripting.thymeleaf.support.TemplateFilePathProvider}) is cached per script and parameter
+     * type, so that the SQL provider can reuse a SqlSource on every statement execution. When the number of entries
+     * exceeds this size, entries that are not used for the longest time are evicted (approximately least recently used
+     * order), so this size should be larger than the number of statements provided by the SQL provider. If specify zero
+     * or less, the cache is disabled. Default is {@code 4096}.
+     * </p>
+     *
+     * @return the maximum number of SqlSource instances cached per language driver
+     */
+    public int getInstanceCacheSize() {
+      return instanceCacheSize;
+    }
+
+    /**
+     * Set the maximum number of SqlSource instances cached per language driver.
+     *
+     * @param instanceCacheSize
+     *          the maximum number of SqlSource instances cached per language driver
+     */
+    public void setInstanceCacheSize(int instanceCacheSize) {
+      this.instanceCacheSize = instanceCacheSize;
     }
 
   }
@@ -251,6 +465,41 @@ public class ThymeleafLanguageDriverConfig extends SqlGeneratorConfig {
    * <td>Whether cache a resolved template file path</td>
    * <td>{@code true}</td>
    * </tr>
+   * <tr>
+   * <td>template-file.path-provider.index-enabled</td>
+   * <td>Whether resolve a template file path using an index of template files</td>
+   * <td>{@code false}</td>
+   * </tr>
+   * <tr>
+   * <th colspan="3">SqlSource configuration</th>
+   * </tr>
+   * <tr>
+   * <td>sql-source.parameter-mapping-cache-size</td>
+   * <td>The maximum number of parsed SQL (parameter mappings) cached per SqlSource</td>
+   * <td>{@code 16}</td>
+   * </tr>
+   * <tr>
+   * <td>sql-source.direct-binding-enabled</td>
+   * <td>Whether bind a parameter specified by {@code mb:p} directly (without parsing a bind variable expression)</td>
+   * <td>{@code false}</td>
+   * </tr>
+   * <tr>
+   * <td>sql-source.temporary-table-threshold</td>
+   * <td>The number of elements over which a collection specified by {@code mb:p} is bound via a temporary table
+   * (Disabled if zero or less)</td>
+   * <td>{@code 0}</td>
+   * </tr>
+   * <tr>
+   * <td>sql-source.static-sql-source-enabled</td>
+   * <td>Whether use a static SqlSource for a straight-line template (a template that consists of only texts and
+   * {@code mb:p} without expression)</td>
+   * <td>{@code true}</td>
+   * </tr>
+   * <tr>
+   * <td>sql-source.instance-cache-size</td>
+   * <td>The maximum number of SqlSource instances cached per language driver (Disabled if zero or less)</td>
+   * <td>{@code 4096}</td>
+   * </tr>
    * </table>
    *
    * @return a configuration instance
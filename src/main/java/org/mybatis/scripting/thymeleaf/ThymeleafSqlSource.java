@@ -16,20 +16,25 @@
 package org.mybatis.scripting.thymeleaf;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
+import java.util.AbstractSet;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.stream.BaseStream;
 
 import org.apache.ibatis.builder.SqlSourceBuilder;
 import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
 import org.apache.ibatis.mapping.SqlSource;
 import org.apache.ibatis.reflection.MetaClass;
+import org.apache.ibatis.reflection.MetaObject;
 import org.apache.ibatis.scripting.xmltags.DynamicContext;
 import org.apache.ibatis.session.Configuration;
 import org.thymeleaf.context.IContext;
@@ -48,14 +53,23 @@ class ThymeleafSqlSource implements SqlSource {
   private static class TemporaryTakeoverKeys {
     private static final String CONFIGURATION = "__configuration__";
     private static final String DYNAMIC_CONTEXT = "__dynamicContext__";
-    private static final String PROCESSING_PARAMETER_TYPE = "__processingParameterType__";
+    private static final String PARAMETER_METADATA = "__parameterMetadata__";
+    private static final String DIRECT_BINDING = "__directBinding__";
+    private static final String TEMPORARY_TABLE_THRESHOLD = "__temporaryTableThreshold__";
   }
 
   private final Configuration configuration;
-  private final SqlGenerator sqlGenerator;
-  private final SqlSourceBuilder sqlSourceBuilder;
-  private final String sqlTemplate;
+  private final ParameterMappingCache parameterMappingCache;
+  private final SqlTemplate sqlTemplate;
   private final Class<?> parameterType;
+  private final Map<Class<?>, ParameterMetadata> parameterMetadataCache = new ConcurrentHashMap<>();
+  private volatile ParameterMetadata lastParameterMetadata;
+  private final int temporaryTableThreshold;
+  private final SqlSource staticSqlSource;
+  private final String[] staticParameterPaths;
+  private final boolean staticIterableExpansion;
+  private final Map<Class<?>, StaticBindability> staticBindabilityCache = new ConcurrentHashMap<>();
+  private volatile boolean directBinding;
 
   /**
    * Constructor for for integrating with template engine provide by Thymeleaf.
@@ -68,14 +82,45 @@ class ThymeleafSqlSource implements SqlSource {
    *          A template string of SQL (inline SQL or template file path)
    * @param parameterType
    *          A parameter type that specified at mapper method argument or xml element
+   * @param sqlSourceConfig
+   *          A SqlSource configuration
    */
   ThymeleafSqlSource(Configuration configuration, SqlGenerator sqlGenerator, String sqlTemplate,
-      Class<?> parameterType) {
+      Class<?> parameterType, ThymeleafLanguageDriverConfig.SqlSourceConfig sqlSourceConfig) {
     this.configuration = configuration;
-    this.sqlGenerator = sqlGenerator;
-    this.sqlTemplate = sqlTemplate;
+    this.sqlTemplate = sqlGenerator.compile(sqlTemplate);
     this.parameterType = parameterType;
-    this.sqlSourceBuilder = new SqlSourceBuilder(configuration);
+    this.parameterMappingCache = new ParameterMappingCache(configuration,
+        sqlSourceConfig.getParameterMappingCacheSize());
+    this.directBinding = sqlSourceConfig.isDirectBindingEnabled() && !sqlTemplate.contains("#{");
+    this.temporaryTableThreshold = sqlSourceConfig.getTemporaryTableThreshold();
+    SqlTemplate.StraightLineSql straightLineSql = sqlSourceConfig.isStaticSqlSourceEnabled()
+        ? toStraightLineSql(this.sqlTemplate) : null;
+    if (straightLineSql == null) {
+      this.staticSqlSource = null;
+      this.staticParameterPaths = null;
+      this.staticIterableExpansion = false;
+    } else {
+      this.staticSqlSource = new SqlSourceBuilder(configuration).parse(straightLineSql.getSql(),
+          parameterType == null ? Object.class : parameterType, new HashMap<>());
+      this.staticParameterPaths = straightLineSql.getParameterPaths().toArray(new String[0]);
+      this.staticIterableExpansion = straightLineSql.isIterableExpansion();
+    }
+  }
+
+  private static SqlTemplate.StraightLineSql toStraightLineSql(SqlTemplate sqlTemplate) {
+    SqlTemplate.StraightLineSql straightLineSql;
+    try {
+      straightLineSql = sqlTemplate.toStraightLineSql();
+    } catch (RuntimeException e) {
+      // Report an error (e.g. template not found) at processing time in the same way as a dynamic template
+      return null;
+    }
+    if (straightLineSql == null || straightLineSql.getSql().contains(DynamicContext.PARAMETER_OBJECT_KEY)
+        || straightLineSql.getSql().contains(DynamicContext.DATABASE_ID_KEY)) {
+      return null;
+    }
+    return straightLineSql;
   }
 
   /**
@@ -83,6 +128,10 @@ class ThymeleafSqlSource implements SqlSource {
    */
   @Override
   public BoundSql getBoundSql(Object parameterObject) {
+    if (staticSqlSource != null && isStaticallyBindable(parameterObject)) {
+      return staticSqlSource.getBoundSql(parameterObject);
+    }
+
     Class<?> processingParameterType;
     if (parameterType == null) {
       processingParameterType = parameterObject == null ? Object.class : parameterObject.getClass();
@@ -90,20 +139,201 @@ class ThymeleafSqlSource implements SqlSource {
       processingParameterType = parameterType;
     }
 
+    ParameterMetadata parameterMetadata = getParameterMetadata(processingParameterType);
+    boolean directBinding = this.directBinding;
+    DynamicContext dynamicContext = createDynamicContext(parameterObject, parameterMetadata, directBinding);
+    String sql = sqlTemplate.render(parameterObject, dynamicContext::bind, dynamicContext.getBindings());
+
+    if (directBinding) {
+      if (!sql.contains("#{")) {
+        return bindTemporaryTables(createBoundSql(sql, parameterObject, processingParameterType, dynamicContext),
+            dynamicContext);
+      }
+      // Cannot bind directly because a bind variable expression is rendered without the mb:p (e.g. written in
+      // template directly), so disable the direct binding on this SqlSource
+      this.directBinding = false;
+      dynamicContext = createDynamicContext(parameterObject, parameterMetadata, false);
+      sql = sqlTemplate.render(parameterObject, dynamicContext::bind, dynamicContext.getBindings());
+    }
+
+    SqlSource sqlSource = parameterMappingCache.parse(sql, processingParameterType, dynamicContext.getBindings());
+    BoundSql boundSql = sqlSource.getBoundSql(parameterObject);
+    dynamicContext.getBindings().forEach(boundSql::setAdditionalParameter);
+
+    return bindTemporaryTables(boundSql, dynamicContext);
+  }
+
+  private BoundSql bindTemporaryTables(BoundSql boundSql, DynamicContext dynamicContext) {
+    if (temporaryTableThreshold > 0) {
+      MyBatisBindingContext bindingContext = (MyBatisBindingContext) dynamicContext.getBindings()
+          .get(MyBatisBindingContext.CONTEXT_VARIABLE_NAME);
+      if (!bindingContext.getTemporaryTableBindings().isEmpty()) {
+        return TemporaryTableParameterHandler.bind(configuration, boundSql, bindingContext.getTemporaryTableBindings());
+      }
+    }
+    return boundSql;
+  }
+
+  private boolean isStaticallyBindable(Object parameterObject) {
+    if (staticParameterPaths.length == 0 || parameterObject == null) {
+      return true;
+    }
+    StaticBindability staticBindability = staticBindabilityCache.get(parameterObject.getClass());
+    if (staticBindability == null) {
+      staticBindability = staticBindabilityCache.computeIfAbsent(parameterObject.getClass(),
+          this::resolveStaticBindability);
+    }
+    switch (staticBindability) {
+      case BINDABLE:
+        return true;
+      case NOT_BINDABLE:
+        return false;
+      default:
+        return isStaticallyBindableValues(parameterObject);
+    }
+  }
+
+  private StaticBindability resolveStaticBindability(Class<?> type) {
+    if (configuration.getTypeHandlerRegistry().hasTypeHandler(type)) {
+      return StaticBindability.BINDABLE;
+    }
+    if (Map.class.isAssignableFrom(type)) {
+      return StaticBindability.UNDETERMINED;
+    }
+    MetaClass metaClass = MetaClass.forClass(type, configuration.getReflectorFactory());
+    StaticBindability result = StaticBindability.BINDABLE;
+    for (String parameterPath : staticParameterPaths) {
+      Class<?> propertyType;
+      try {
+        propertyType = metaClass.hasGetter(parameterPath) ? metaClass.getGetterType(parameterPath) : null;
+      } catch (RuntimeException e) {
+        propertyType = null;
+      }
+      if (propertyType == null) {
+        // e.g. A property of nested map or a value of custom variable
+        result = StaticBindability.UNDETERMINED;
+      } else if (isMultipleValueType(propertyType)) {
+        return StaticBindability.NOT_BINDABLE;
+      } else if (propertyType == Object.class || !(propertyType.isPrimitive() || propertyType.isEnum()
+          || configuration.getTypeHandlerRegistry().hasTypeHandler(propertyType))) {
+        // A value of property may be a collection at runtime
+        result = StaticBindability.UNDETERMINED;
+      }
+    }
+    return result;
+  }
+
+  private boolean isStaticallyBindableValues(Object parameterObject) {
+    MetaObject metaObject = null;
+    for (String parameterPath : staticParameterPaths) {
+      Object value;
+      try {
+        if (parameterObject instanceof Map && parameterPath.indexOf('.') == -1 && parameterPath.indexOf('[') == -1) {
+          value = ((Map<?, ?>) parameterObject).get(parameterPath);
+        } else {
+          if (metaObject == null) {
+            metaObject = configuration.newMetaObject(parameterObject);
+          }
+          value = metaObject.getValue(parameterPath);
+        }
+      } catch (RuntimeException e) {
+        // Cannot resolve a value without template engine (e.g. a value of custom variable)
+        return false;
+      }
+      if (value != null && isMultipleValueType(value.getClass())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isMultipleValueType(Class<?> type) {
+    // Same as types that the mb:p expands to multiple bind variables
+    return type.isArray() || Collection.class.isAssignableFrom(type) || (staticIterableExpansion
+        && (Iterable.class.isAssignableFrom(type) || BaseStream.class.isAssignableFrom(type)));
+  }
+
+  /**
+   * Get a static SqlSource for the straight-line template.
+   *
+   * @return a static SqlSource (If this template is not a straight-line template, return {@code null})
+   */
+  SqlSource getStaticSqlSource() {
+    return staticSqlSource;
+  }
+
+  /**
+   * Return whether this template has no syntax of template engine.
+   *
+   * @return If this template can be replaced with a static SqlSource entirely, return {@code true}
+   */
+  boolean isStatic() {
+    return staticSqlSource != null && staticParameterPaths.length == 0;
+  }
+
+  private ParameterMetadata getParameterMetadata(Class<?> processingParameterType) {
+    ParameterMetadata parameterMetadata = lastParameterMetadata;
+    if (parameterMetadata == null || parameterMetadata.type != processingParameterType) {
+      parameterMetadata = parameterMetadataCache.computeIfAbsent(processingParameterType,
+          type -> new ParameterMetadata(type, configuration));
+      lastParameterMetadata = parameterMetadata;
+    }
+    return parameterMetadata;
+  }
+
+  private DynamicContext createDynamicContext(Object parameterObject, ParameterMetadata parameterMetadata,
+      boolean directBinding) {
     DynamicContext dynamicContext = new DynamicContext(configuration, parameterObject);
     Map<String, Object> customVariables = dynamicContext.getBindings();
     customVariables.put(TemporaryTakeoverKeys.CONFIGURATION, configuration);
     customVariables.put(TemporaryTakeoverKeys.DYNAMIC_CONTEXT, dynamicContext);
-    customVariables.put(TemporaryTakeoverKeys.PROCESSING_PARAMETER_TYPE, processingParameterType);
-    String sql = sqlGenerator.generate(sqlTemplate, parameterObject, dynamicContext::bind, customVariables);
-
-    SqlSource sqlSource = sqlSourceBuilder.parse(sql, processingParameterType, dynamicContext.getBindings());
-    BoundSql boundSql = sqlSource.getBoundSql(parameterObject);
-    dynamicContext.getBindings().forEach(boundSql::setAdditionalParameter);
+    customVariables.put(TemporaryTakeoverKeys.PARAMETER_METADATA, parameterMetadata);
+    customVariables.put(TemporaryTakeoverKeys.DIRECT_BINDING, directBinding);
+    customVariables.put(TemporaryTakeoverKeys.TEMPORARY_TABLE_THRESHOLD, temporaryTableThreshold);
+    return dynamicContext;
+  }
 
+  private BoundSql createBoundSql(String sql, Object parameterObject, Class<?> processingParameterType,
+      DynamicContext dynamicContext) {
+    Map<String, Object> bindings = dynamicContext.getBindings();
+    MyBatisBindingContext bindingContext = (MyBatisBindingContext) bindings
+        .get(MyBatisBindingContext.CONTEXT_VARIABLE_NAME);
+    List<ParameterMapping> parameterMappings = parameterMappingCache.build(sql, processingParameterType,
+        bindingContext.getParameterBindings(), bindings);
+    BoundSql boundSql = new BoundSql(configuration,
+        configuration.isShrinkWhitespacesInSql() ? SqlSourceBuilder.removeExtraWhitespaces(sql) : sql,
+        parameterMappings, parameterObject);
+    bindings.forEach(boundSql::setAdditionalParameter);
     return boundSql;
   }
 
+  /**
+   * Return whether bind a parameter directly on this SqlSource.
+   *
+   * @return If bind a parameter directly, return {@code true}
+   */
+  boolean isDirectBinding() {
+    return directBinding;
+  }
+
+  /**
+   * Resolve and parse a template in advance.
+   *
+   * @see SqlTemplate#prepare()
+   */
+  void prepare() {
+    sqlTemplate.prepare();
+  }
+
+  /**
+   * Get a cache for parsed SQL (parameter mappings).
+   *
+   * @return a cache for parsed SQL
+   */
+  ParameterMappingCache getParameterMappingCache() {
+    return parameterMappingCache;
+  }
+
   /**
    * The factory class for Thymeleaf's context.
    *
@@ -117,10 +347,14 @@ class ThymeleafSqlSource implements SqlSource {
     public IContext apply(Object parameter, Map<String, Object> customVariable) {
       Configuration configuration = (Configuration) customVariable.remove(TemporaryTakeoverKeys.CONFIGURATION);
       DynamicContext dynamicContext = (DynamicContext) customVariable.remove(TemporaryTakeoverKeys.DYNAMIC_CONTEXT);
-      Class<?> processingParameterType = (Class<?>) customVariable
-          .remove(TemporaryTakeoverKeys.PROCESSING_PARAMETER_TYPE);
+      ParameterMetadata parameterMetadata = (ParameterMetadata) customVariable
+          .remove(TemporaryTakeoverKeys.PARAMETER_METADATA);
+      boolean directBinding = Boolean.TRUE.equals(customVariable.remove(TemporaryTakeoverKeys.DIRECT_BINDING));
+      Integer temporaryTableThreshold = (Integer) customVariable
+          .remove(TemporaryTakeoverKeys.TEMPORARY_TABLE_THRESHOLD);
       MyBatisBindingContext bindingContext = new MyBatisBindingContext(
-          parameter != null && configuration.getTypeHandlerRegistry().hasTypeHandler(processingParameterType));
+          parameter != null && parameterMetadata.typeHandlerPresent, directBinding,
+          temporaryTableThreshold == null ? 0 : temporaryTableThreshold);
       dynamicContext.bind(MyBatisBindingContext.CONTEXT_VARIABLE_NAME, bindingContext);
       IContext context;
       if (parameter instanceof Map) {
@@ -128,30 +362,85 @@ class ThymeleafSqlSource implements SqlSource {
         Map<String, Object> map = (Map<String, Object>) parameter;
         context = new MapBasedContext(map, dynamicContext, configuration.getVariables());
       } else {
-        MetaClass metaClass = MetaClass.forClass(processingParameterType, configuration.getReflectorFactory());
-        context = new MetaClassBasedContext(parameter, metaClass, processingParameterType, dynamicContext,
-            configuration.getVariables());
+        context = new MetaClassBasedContext(parameter, parameterMetadata.getMetaClass(),
+            parameterMetadata.getGetterNames(), parameterMetadata.type, dynamicContext, configuration.getVariables());
       }
       return context;
     }
   }
 
-  private abstract static class AbstractContext implements IContext {
+  /**
+   * Whether a parameter type can be bound using a static SqlSource, that resolved once per parameter type.
+   */
+  private enum StaticBindability {
+
+    /**
+     * All parameters specified by {@code mb:p} are always a single value.
+     */
+    BINDABLE,
+    /**
+     * Some parameters specified by {@code mb:p} are always a collection (or array).
+     */
+    NOT_BINDABLE,
+    /**
+     * Values of parameters should be checked on each call (e.g. a map and a property of {@code Object}).
+     */
+    UNDETERMINED
+
+  }
+
+  /**
+   * The metadata of parameter type that resolved once per parameter type on each SqlSource.
+   */
+  private static class ParameterMetadata {
+
+    private final Class<?> type;
+    private final Configuration configuration;
+    private final boolean typeHandlerPresent;
+    private MetaClass metaClass;
+    private Set<String> getterNames;
+
+    private ParameterMetadata(Class<?> type, Configuration configuration) {
+      this.type = type;
+      this.configuration = configuration;
+      this.typeHandlerPresent = configuration.getTypeHandlerRegistry().hasTypeHandler(type);
+    }
+
+    private MetaClass getMetaClass() {
+      MetaClass result = metaClass;
+      if (result == null) {
+        result = MetaClass.forClass(type, configuration.getReflectorFactory());
+        metaClass = result;
+      }
+      return result;
+    }
+
+    private Set<String> getGetterNames() {
+      Set<String> result = getterNames;
+      if (result == null) {
+        result = Set.of(getMetaClass().getGetterNames());
+        getterNames = result;
+      }
+      return result;
+    }
+
+  }
+
+  private abstract static class AbstractContext
+      implements MyBatisIntegratingEngineContextFactory.LazyContext {
 
     private final DynamicContext dynamicContext;
     private final Properties configurationProperties;
     private final Set<String> variableNames;
 
-    private AbstractContext(DynamicContext dynamicContext, Properties configurationProperties) {
+    private AbstractContext(DynamicContext dynamicContext, Properties configurationProperties,
+        Set<String> parameterNames) {
       this.dynamicContext = dynamicContext;
       this.configurationProperties = configurationProperties;
-      this.variableNames = new HashSet<>();
-      addVariableNames(dynamicContext.getBindings().keySet());
-      Optional.ofNullable(configurationProperties).ifPresent(v -> addVariableNames(v.stringPropertyNames()));
-    }
-
-    void addVariableNames(Collection<String> names) {
-      variableNames.addAll(names);
+      this.variableNames = configurationProperties == null
+          ? LayeredNameSet.of(dynamicContext.getBindings().keySet(), parameterNames)
+          : LayeredNameSet.of(dynamicContext.getBindings().keySet(), new PropertyNameSet(configurationProperties),
+              parameterNames);
     }
 
     /**
@@ -202,9 +491,8 @@ class ThymeleafSqlSource implements SqlSource {
 
     private MapBasedContext(Map<String, Object> parameterMap, DynamicContext dynamicContext,
         Properties configurationProperties) {
-      super(dynamicContext, configurationProperties);
+      super(dynamicContext, configurationProperties, parameterMap.keySet());
       this.variables = parameterMap;
-      addVariableNames(parameterMap.keySet());
     }
 
     /**
@@ -223,13 +511,12 @@ class ThymeleafSqlSource implements SqlSource {
     private final MetaClass parameterMetaClass;
     private final Class<?> parameterType;
 
-    private MetaClassBasedContext(Object parameterObject, MetaClass parameterMetaClass, Class<?> parameterType,
-        DynamicContext dynamicContext, Properties configurationProperties) {
-      super(dynamicContext, configurationProperties);
+    private MetaClassBasedContext(Object parameterObject, MetaClass parameterMetaClass, Set<String> getterNames,
+        Class<?> parameterType, DynamicContext dynamicContext, Properties configurationProperties) {
+      super(dynamicContext, configurationProperties, getterNames);
       this.parameterObject = parameterObject;
       this.parameterMetaClass = parameterMetaClass;
       this.parameterType = parameterType;
-      addVariableNames(Arrays.asList(parameterMetaClass.getGetterNames()));
     }
 
     /**
@@ -247,4 +534,41 @@ class ThymeleafSqlSource implements SqlSource {
 
   }
 
+  /**
+   * The read-only view of property names in configuration properties.
+   */
+  private static class PropertyNameSet extends AbstractSet<String> {
+
+    private final Properties properties;
+
+    private PropertyNameSet(Properties properties) {
+      this.properties = properties;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+      return o instanceof String && properties.containsKey(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<String> iterator() {
+      return properties.keySet().stream().filter(String.class::isInstance).map(String.class::cast).iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+      return properties.size();
+    }
+
+  }
+
 }
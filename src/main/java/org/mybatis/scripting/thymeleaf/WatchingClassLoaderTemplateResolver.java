@@ -0,0 +1,228 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.thymeleaf.IEngineConfiguration;
+import org.thymeleaf.cache.AlwaysValidCacheEntryValidity;
+import org.thymeleaf.cache.ICacheEntryValidity;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.util.ClassLoaderUtils;
+
+/**
+ * The {@code ClassLoaderTemplateResolver} that watches template files using the {@link WatchService}.
+ * <p>
+ * When a template file is loaded from the file system (e.g. {@code target/classes} on development environment), this
+ * resolver watches the directory of it, and invalidates cached templates of only changed (modified, deleted or
+ * re-created) template files. So that the template cache can be enabled without TTL and still pick up edits without
+ * restarting an application. A template file that is not loaded from the file system (e.g. a template file within a
+ * jar file) is cached in the same way as the {@code ClassLoaderTemplateResolver}. This watching is applied only when
+ * the template resolution is cacheable without TTL.
+ * </p>
+ * <p>
+ * Directories are watched by a daemon thread that is started at first template resolution, and it is stopped by
+ * {@link #close()} (e.g. via {@link SqlGenerator#close()} or {@link ThymeleafLanguageDriver#close()}). Note that the
+ * delay until detecting changes depends on the implementation of the {@link WatchService} on your platform.
+ * </p>
+ * <p>
+ * Because a watched template is not valid forever, the static SqlSource for a straight-line template (see
+ * {@link ThymeleafLanguageDriverConfig.SqlSourceConfig#isStaticSqlSourceEnabled()}) is not applied to it, and it is
+ * rendered by the template engine on every execution.
+ * </p>
+ *
+ * @since 1.2.1
+ *
+ * @see SqlGeneratorConfig.TemplateFileConfig#isWatchEnabled()
+ */
+public class WatchingClassLoaderTemplateResolver extends ClassLoaderTemplateResolver implements AutoCloseable {
+
+  private final ClassLoader classLoader;
+  private final ConcurrentMap<Path, WatchKey> directories = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Path, FileValidity> validities = new ConcurrentHashMap<>();
+  private WatchService watchService;
+  private boolean closed;
+
+  /**
+   * Constructor for creating instance with default class loader.
+   */
+  public WatchingClassLoaderTemplateResolver() {
+    this(null);
+  }
+
+  /**
+   * Constructor for creating instance with user specified class loader.
+   *
+   * @param classLoader
+   *          A class loader for loading template files (If specify {@code null}, use the default class loader)
+   */
+  public WatchingClassLoaderTemplateResolver(ClassLoader classLoader) {
+    super(classLoader);
+    this.classLoader = classLoader;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected ICacheEntryValidity computeValidity(IEngineConfiguration configuration, String ownerTemplate,
+      String template, Map<String, Object> templateResolutionAttributes) {
+    ICacheEntryValidity validity = super.computeValidity(configuration, ownerTemplate, template,
+        templateResolutionAttributes);
+    if (validity != AlwaysValidCacheEntryValidity.INSTANCE) {
+      return validity;
+    }
+    Path file = toFile(computeResourceName(configuration, ownerTemplate, template, getPrefix(), getSuffix(),
+        getForceSuffix(), getTemplateAliases(), templateResolutionAttributes));
+    if (file == null || !watch(file.getParent())) {
+      return validity;
+    }
+    return validities.computeIfAbsent(file, k -> new FileValidity());
+  }
+
+  /**
+   * Stop watching template files.
+   * <p>
+   * Templates that are resolved after closing are cached in the same way as the {@code ClassLoaderTemplateResolver}.
+   * </p>
+   */
+  @Override
+  public void close() {
+    synchronized (directories) {
+      closed = true;
+      if (watchService != null) {
+        try {
+          watchService.close();
+        } catch (IOException e) {
+          // ignore
+        }
+      }
+      directories.clear();
+    }
+  }
+
+  private Path toFile(String resourceName) {
+    String name = resourceName.startsWith("/") ? resourceName.substring(1) : resourceName;
+    URL url = classLoader == null ? ClassLoaderUtils.findResource(name) : classLoader.getResource(name);
+    if (url == null || !"file".equals(url.getProtocol())) {
+      return null;
+    }
+    try {
+      return Paths.get(url.toURI()).toAbsolutePath().normalize();
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private boolean watch(Path directory) {
+    if (directory == null) {
+      return false;
+    }
+    if (directories.containsKey(directory)) {
+      return true;
+    }
+    synchronized (directories) {
+      if (closed) {
+        return false;
+      }
+      if (directories.containsKey(directory)) {
+        return true;
+      }
+      try {
+        if (watchService == null) {
+          watchService = FileSystems.getDefault().newWatchService();
+          Thread thread = new Thread(this::processEvents, "mybatis-thymeleaf-template-watcher");
+          thread.setDaemon(true);
+          thread.start();
+        }
+        directories.put(directory, directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE));
+        return true;
+      } catch (IOException | UnsupportedOperationException e) {
+        // Fallback to cache without watching
+        return false;
+      }
+    }
+  }
+
+  private void processEvents() {
+    while (true) {
+      WatchKey key;
+      try {
+        key = watchService.take();
+      } catch (ClosedWatchServiceException e) {
+        break;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      Path directory = (Path) key.watchable();
+      for (WatchEvent<?> event : key.pollEvents()) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+          invalidateAll(directory);
+        } else {
+          invalidate(directory.resolve((Path) event.context()));
+        }
+      }
+      if (!key.reset()) {
+        // The directory is no longer accessible (e.g. deleted)
+        directories.remove(directory, key);
+        invalidateAll(directory);
+      }
+    }
+  }
+
+  private void invalidate(Path file) {
+    FileValidity validity = validities.remove(file);
+    if (validity != null) {
+      validity.valid = false;
+    }
+  }
+
+  private void invalidateAll(Path directory) {
+    validities.keySet().stream().filter(x -> directory.equals(x.getParent())).forEach(this::invalidate);
+  }
+
+  private static class FileValidity implements ICacheEntryValidity {
+
+    private volatile boolean valid = true;
+
+    @Override
+    public boolean isCacheable() {
+      return true;
+    }
+
+    @Override
+    public boolean isCacheStillValid() {
+      return valid;
+    }
+
+  }
+
+}
@@ -16,8 +16,16 @@
 package org.mybatis.scripting.thymeleaf.processor;
 
 import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.UnaryOperator;
+import java.util.stream.BaseStream;
 
 import org.mybatis.scripting.thymeleaf.MyBatisBindingContext;
 import org.thymeleaf.context.ITemplateContext;
@@ -44,11 +52,26 @@ public class MyBatisParamTagProcessor extends AbstractAttributeTagProcessor {
 
   private static final int PRECEDENCE = 1400;
   private static final String ATTR_NAME = "p";
+  private static final String PADDING_OPTION_NAME = "padding";
+  private static final String ARRAY_OPTION_NAME = "array";
+  private static final String ITERABLE_OPTION_NAME = "iterable";
+  private static final String TEMPORARY_TABLE_OPTION_NAME = "tempTable";
+  private static final String PROPERTIES_OPTION_NAME = "properties";
+  private static final String ARRAY_TYPE_HANDLER = "org.apache.ibatis.type.ArrayTypeHandler";
+  private static final int MAX_PARSED_ATTRIBUTES = 256;
 
   private final StandardExpressionExecutionContext expressionExecutionContext;
 
+  private final ConcurrentMap<String, ParsedAttribute> parsedAttributes = new ConcurrentHashMap<>();
+
   private UnaryOperator<String> bindVariableRender = BindVariableRender.BuiltIn.MYBATIS;
 
+  private boolean inClauseParameterPadding;
+
+  private boolean arrayParameterBinding;
+
+  private boolean iterableParameterExpansion;
+
   /**
    * Constructor that can be specified the template mode and dialect prefix.
    *
@@ -76,6 +99,56 @@ public class MyBatisParamTagProcessor extends AbstractAttributeTagProcessor {
     this.bindVariableRender = bindVariableRender;
   }
 
+  /**
+   * Set whether pad bind variables of an expanded collection or array up to the power-of-two size.<br>
+   * By default, does not pad. This setting can be overridden by the {@code padding} option (e.g.
+   * {@code mb:p="ids,padding=true"}). This setting is not applied to row values rendered by the {@code properties}
+   * option (it is padded only when the {@code padding=true} option is specified), because row values are also used
+   * for a {@code VALUES} clause of multi-row insert. This setting is safe only for bind variables inside
+   * {@code IN (...)}.
+   *
+   * @param inClauseParameterPadding
+   *          If want to pad bind variables, set {@code true}
+   *
+   * @since 1.2.1
+   */
+  public void setInClauseParameterPadding(boolean inClauseParameterPadding) {
+    this.inClauseParameterPadding = inClauseParameterPadding;
+    parsedAttributes.clear();
+  }
+
+  /**
+   * Set whether bind a collection or array as single array parameter.<br>
+   * By default, expand to multiple bind variables. This setting can be overridden by the {@code array} option (e.g.
+   * {@code mb:p="ids,array=true"}).
+   *
+   * @param arrayParameterBinding
+   *          If want to bind as single array parameter, set {@code true}
+   *
+   * @since 1.2.1
+   */
+  public void setArrayParameterBinding(boolean arrayParameterBinding) {
+    this.arrayParameterBinding = arrayParameterBinding;
+    parsedAttributes.clear();
+  }
+
+  /**
+   * Set whether expand an {@link Iterable} (that is not a {@link Collection}) and a {@link BaseStream} to multiple bind
+   * variables.<br>
+   * By default, render single bind variable for these objects (e.g. an object that is handled by a type handler such
+   * as {@code java.nio.file.Path}). This setting can be overridden by the {@code iterable} option (e.g.
+   * {@code mb:p="ids,iterable=true"}).
+   *
+   * @param iterableParameterExpansion
+   *          If want to expand an iterable and stream object, set {@code true}
+   *
+   * @since 1.2.1
+   */
+  public void setIterableParameterExpansion(boolean iterableParameterExpansion) {
+    this.iterableParameterExpansion = iterableParameterExpansion;
+    parsedAttributes.clear();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -86,40 +159,46 @@ public class MyBatisParamTagProcessor extends AbstractAttributeTagProcessor {
       attributeValue = getExpressionEvaluatedText(context, tag, attributeName, attributeValue);
     }
 
-    Pair parameterAndOptionPair = Pair.parse(attributeValue, ',');
-    String parameterPath = parameterAndOptionPair.left;
-    String options = parameterAndOptionPair.right;
-
-    Pair objectNameAndPropertyPathPair = Pair.parse(parameterPath, '.');
-    String objectName = objectNameAndPropertyPathPair.left;
-    String nestedPropertyPath = objectNameAndPropertyPathPair.right;
+    ParsedAttribute parsedAttribute = parsedAttributes.get(attributeValue);
+    if (parsedAttribute == null) {
+      parsedAttribute = new ParsedAttribute(attributeValue, inClauseParameterPadding, arrayParameterBinding,
+          iterableParameterExpansion);
+      if (parsedAttributes.size() < MAX_PARSED_ATTRIBUTES) {
+        parsedAttributes.put(attributeValue, parsedAttribute);
+      }
+    }
+    String parameterPath = parsedAttribute.parameterPath;
+    ParamOptions paramOptions = parsedAttribute.paramOptions;
+    String objectName = parsedAttribute.objectName;
+    String nestedPropertyPath = parsedAttribute.nestedPropertyPath;
 
     String body;
-    String iterationObjectName = objectName + "Stat";
+    String iterationObjectName = parsedAttribute.iterationObjectName;
+    MyBatisBindingContext bindingContext = MyBatisBindingContext.load(context);
     if (context.containsVariable(iterationObjectName)) {
-      MyBatisBindingContext bindingContext = MyBatisBindingContext.load(context);
       IterationStatusVar iterationStatus = (IterationStatusVar) context.getVariable(iterationObjectName);
       String iterationObjectVariableName = bindingContext.generateUniqueName(objectName, iterationStatus);
       if (!bindingContext.containsCustomBindVariable(iterationObjectVariableName)) {
         bindingContext.setCustomBindVariable(iterationObjectVariableName, iterationStatus.getCurrent());
       }
       if (nestedPropertyPath.isEmpty()) {
-        body = bindVariableRender.apply(iterationObjectVariableName + options);
+        body = renderSingleValue(bindingContext, iterationObjectVariableName, paramOptions);
       } else {
         Object value = getExpressionEvaluatedValue(context, tag, attributeName, parameterPath);
-        if (isCollectionOrArray(value)) {
-          body = generateCollectionBindVariables(value, iterationObjectVariableName + nestedPropertyPath, options);
+        if (isCollectionOrArray(value, paramOptions)) {
+          body = generateCollectionBindVariables(bindingContext, value,
+              iterationObjectVariableName + nestedPropertyPath, paramOptions);
         } else {
-          body = bindVariableRender.apply(iterationObjectVariableName + nestedPropertyPath + options);
+          body = renderSingleValue(bindingContext, iterationObjectVariableName + nestedPropertyPath, paramOptions);
         }
       }
     } else {
       Object value = nestedPropertyPath.isEmpty() ? context.getVariable(objectName)
           : getExpressionEvaluatedValue(context, tag, attributeName, parameterPath);
-      if (isCollectionOrArray(value)) {
-        body = generateCollectionBindVariables(value, parameterPath, options);
+      if (isCollectionOrArray(value, paramOptions)) {
+        body = generateCollectionBindVariables(bindingContext, value, parameterPath, paramOptions);
       } else {
-        body = bindVariableRender.apply(attributeValue);
+        body = renderSingleValue(bindingContext, parameterPath, paramOptions);
       }
     }
     structureHandler.setBody(body, false);
@@ -139,24 +218,390 @@ public class MyBatisParamTagProcessor extends AbstractAttributeTagProcessor {
     return expression.execute(context, this.expressionExecutionContext).toString();
   }
 
-  private boolean isCollectionOrArray(Object value) {
-    return value != null && (Collection.class.isAssignableFrom(value.getClass()) || value.getClass().isArray());
+  private boolean isCollectionOrArray(Object value, ParamOptions paramOptions) {
+    if (value == null) {
+      return false;
+    }
+    return value instanceof Collection || value.getClass().isArray()
+        || (paramOptions.iterableExpansion && (value instanceof Iterable || value instanceof BaseStream));
   }
 
-  private String generateCollectionBindVariables(Object value, String parameterPath, String options) {
-    int size = value.getClass().isArray() ? Array.getLength(value) : ((Collection) value).size();
-    if (size == 0) {
+  private String generateCollectionBindVariables(MyBatisBindingContext bindingContext, Object value,
+      String parameterPath, ParamOptions paramOptions) {
+    String options = paramOptions.options;
+    String[] propertyPaths = paramOptions.propertyPaths;
+    if (propertyPaths != null) {
+      return generateRowValueBindVariables(bindingContext, value, parameterPath, propertyPaths, paramOptions);
+    }
+    if (paramOptions.temporaryTable != null && bindingContext != null) {
+      Collection<?> elements = toCollection(value);
+      if (bindingContext.isTemporaryTableApplicable(elements.size())) {
+        return generateTemporaryTableSelect(bindingContext, elements, paramOptions.temporaryTable);
+      }
+      if (!(value instanceof Collection) && !value.getClass().isArray()) {
+        // A stream cannot be consumed again, so iterate materialized elements (an element is not accessed by index)
+        Collection<Object> materializedElements = Collections.unmodifiableCollection(elements);
+        value = (Iterable<Object>) materializedElements::iterator;
+      }
+    }
+    if (paramOptions.arrayBinding) {
+      return generateArrayBindVariable(bindingContext, value, parameterPath, options);
+    }
+    boolean padding = paramOptions.padding;
+    if (value instanceof Collection || value.getClass().isArray()) {
+      // Render bind variables that access an element by index (e.g. #{ids[0]}, #{ids[1]}, ...)
+      int size = value instanceof Collection ? ((Collection<?>) value).size() : getArrayLength(value);
+      if (size == 0) {
+        return "null";
+      }
+      int renderingSize = padding ? getPaddedSize(size) : size;
+      String prefix = parameterPath + "[";
+      StringBuilder sb = new StringBuilder(renderingSize * (prefix.length() + options.length() + 8));
+      for (int i = 0; i < renderingSize; i++) {
+        if (i != 0) {
+          sb.append(", ");
+        }
+        appendIndexedBindVariable(sb, bindingContext, prefix, Math.min(i, size - 1), "", options);
+      }
+      return sb.toString();
+    }
+    // Register each element as a custom bind variable because an element of Iterable and Stream cannot access by index
+    Iterator<?> iterator = value instanceof BaseStream ? ((BaseStream<?, ?>) value).iterator()
+        : ((Iterable<?>) value).iterator();
+    if (!iterator.hasNext()) {
       return "null";
-    } else {
-      StringBuilder sb = new StringBuilder();
-      for (int i = 0; i < size; i++) {
+    }
+    String baseName = toVariableName(parameterPath);
+    StringBuilder sb = new StringBuilder();
+    String variableName = null;
+    int size = 0;
+    while (iterator.hasNext()) {
+      if (size++ != 0) {
+        sb.append(", ");
+      }
+      variableName = bindingContext.setUniqueCustomBindVariable(baseName, iterator.next());
+      sb.append(renderBindVariable(bindingContext, variableName, options));
+    }
+    int renderingSize = padding ? getPaddedSize(size) : size;
+    for (int i = size; i < renderingSize; i++) {
+      sb.append(", ").append(renderBindVariable(bindingContext, variableName, options));
+    }
+    return sb.toString();
+  }
+
+  private String renderSingleValue(MyBatisBindingContext bindingContext, String parameterPath,
+      ParamOptions paramOptions) {
+    if (paramOptions.propertyPaths == null) {
+      return renderBindVariable(bindingContext, parameterPath, paramOptions.options);
+    }
+    // Render a row value that access properties of an object (e.g. (#{id.a}, #{id.b}))
+    String[] propertyPaths = paramOptions.propertyPaths;
+    StringBuilder sb = new StringBuilder().append('(');
+    for (int i = 0; i < propertyPaths.length; i++) {
+      if (i != 0) {
+        sb.append(", ");
+      }
+      sb.append(renderBindVariable(bindingContext, parameterPath + propertyPaths[i], paramOptions.options));
+    }
+    return sb.append(')').toString();
+  }
+
+  private String generateRowValueBindVariables(MyBatisBindingContext bindingContext, Object value,
+      String parameterPath, String[] propertyPaths, ParamOptions paramOptions) {
+    String options = paramOptions.options;
+    if (value instanceof Collection || value.getClass().isArray()) {
+      // Render row values that access a property of element by index (e.g. (#{ids[0].a}, #{ids[0].b}), ...)
+      int size = value instanceof Collection ? ((Collection<?>) value).size() : getArrayLength(value);
+      if (size == 0) {
+        return "null";
+      }
+      int renderingSize = paramOptions.padding ? getPaddedSize(size) : size;
+      String prefix = parameterPath + "[";
+      StringBuilder sb = new StringBuilder(
+          renderingSize * propertyPaths.length * (prefix.length() + options.length() + 16));
+      for (int i = 0; i < renderingSize; i++) {
         if (i != 0) {
           sb.append(", ");
         }
-        sb.append(bindVariableRender.apply(parameterPath + "[" + i + "]" + options));
+        sb.append('(');
+        for (int j = 0; j < propertyPaths.length; j++) {
+          if (j != 0) {
+            sb.append(", ");
+          }
+          appendIndexedBindVariable(sb, bindingContext, prefix, Math.min(i, size - 1), propertyPaths[j], options);
+        }
+        sb.append(')');
       }
       return sb.toString();
     }
+    // Register each element as a custom bind variable because an element of Iterable and Stream cannot access by index
+    Iterator<?> iterator = value instanceof BaseStream ? ((BaseStream<?, ?>) value).iterator()
+        : ((Iterable<?>) value).iterator();
+    if (!iterator.hasNext()) {
+      return "null";
+    }
+    String baseName = toVariableName(parameterPath);
+    StringBuilder sb = new StringBuilder();
+    String rowValue = null;
+    int size = 0;
+    while (iterator.hasNext()) {
+      if (size++ != 0) {
+        sb.append(", ");
+      }
+      String variableName = bindingContext.setUniqueCustomBindVariable(baseName, iterator.next());
+      StringBuilder row = new StringBuilder().append('(');
+      for (int j = 0; j < propertyPaths.length; j++) {
+        if (j != 0) {
+          row.append(", ");
+        }
+        row.append(renderBindVariable(bindingContext, variableName + propertyPaths[j], options));
+      }
+      rowValue = row.append(')').toString();
+      sb.append(rowValue);
+    }
+    int renderingSize = paramOptions.padding ? getPaddedSize(size) : size;
+    for (int i = size; i < renderingSize; i++) {
+      sb.append(", ").append(rowValue);
+    }
+    return sb.toString();
+  }
+
+  private String generateTemporaryTableSelect(MyBatisBindingContext bindingContext, Collection<?> elements,
+      String temporaryTable) {
+    int separatorIndex = temporaryTable.lastIndexOf('.');
+    if (separatorIndex <= 0 || separatorIndex == temporaryTable.length() - 1) {
+      throw new IllegalArgumentException(String.format(
+          "The '%s' option requires a value of '{table}.{column}' format. value='%s'", TEMPORARY_TABLE_OPTION_NAME,
+          temporaryTable));
+    }
+    String table = temporaryTable.substring(0, separatorIndex);
+    String column = temporaryTable.substring(separatorIndex + 1);
+    bindingContext.addTemporaryTableBinding(table, column, elements);
+    return "SELECT " + column + " FROM " + table;
+  }
+
+  private static Collection<?> toCollection(Object value) {
+    if (value instanceof Collection) {
+      return (Collection<?>) value;
+    } else if (value.getClass().isArray()) {
+      return Arrays.asList(toObjectArray(value));
+    } else {
+      List<Object> list = new ArrayList<>();
+      Iterator<?> iterator = value instanceof BaseStream ? ((BaseStream<?, ?>) value).iterator()
+          : ((Iterable<?>) value).iterator();
+      iterator.forEachRemaining(list::add);
+      return list;
+    }
+  }
+
+  private String generateArrayBindVariable(MyBatisBindingContext bindingContext, Object value, String parameterPath,
+      String options) {
+    String variableName = bindingContext.setUniqueCustomBindVariable(toVariableName(parameterPath),
+        toObjectArray(value));
+    if (bindVariableRender == BindVariableRender.BuiltIn.MYBATIS && !options.contains("typeHandler=")) {
+      options = options + ",typeHandler=" + ARRAY_TYPE_HANDLER;
+    }
+    return renderBindVariable(bindingContext, variableName, options);
+  }
+
+  private static Object[] toObjectArray(Object value) {
+    if (value instanceof Object[]) {
+      return (Object[]) value;
+    }
+    if (value.getClass().isArray()) {
+      // Convert a primitive array to a wrapper array (e.g. int[] -> Integer[])
+      int length = Array.getLength(value);
+      Object[] array = (Object[]) Array.newInstance(toWrapperType(value.getClass().getComponentType()), length);
+      for (int i = 0; i < length; i++) {
+        array[i] = Array.get(value, i);
+      }
+      return array;
+    }
+    Collection<?> elements = toCollection(value);
+    // Use the common element type as component type because it is used for resolving the SQL array type name
+    Class<?> componentType = null;
+    for (Object element : elements) {
+      if (element != null) {
+        if (componentType == null) {
+          componentType = element.getClass();
+        } else if (!componentType.isInstance(element)) {
+          componentType = Object.class;
+          break;
+        }
+      }
+    }
+    return elements.toArray((Object[]) Array.newInstance(componentType == null ? Object.class : componentType, 0));
+  }
+
+  private static Class<?> toWrapperType(Class<?> primitiveType) {
+    if (primitiveType == int.class) {
+      return Integer.class;
+    } else if (primitiveType == long.class) {
+      return Long.class;
+    } else if (primitiveType == short.class) {
+      return Short.class;
+    } else if (primitiveType == byte.class) {
+      return Byte.class;
+    } else if (primitiveType == double.class) {
+      return Double.class;
+    } else if (primitiveType == float.class) {
+      return Float.class;
+    } else if (primitiveType == boolean.class) {
+      return Boolean.class;
+    } else {
+      return Character.class;
+    }
+  }
+
+  private static int getPaddedSize(int size) {
+    return size <= 1 ? size : Integer.highestOneBit(size - 1) << 1;
+  }
+
+  private void appendIndexedBindVariable(StringBuilder sb, MyBatisBindingContext bindingContext, String prefix,
+      int index, String propertyPath, String options) {
+    if (bindVariableRender == BindVariableRender.BuiltIn.MYBATIS) {
+      if (bindingContext != null && bindingContext.isDirectBinding()) {
+        bindingContext.addParameterBinding(prefix + index + "]" + propertyPath, options);
+        sb.append('?');
+      } else {
+        sb.append("#{").append(prefix).append(index).append(']').append(propertyPath).append(options).append('}');
+      }
+    } else {
+      sb.append(bindVariableRender.apply(prefix + index + "]" + propertyPath + options));
+    }
+  }
+
+  private static int getArrayLength(Object array) {
+    if (array instanceof Object[]) {
+      return ((Object[]) array).length;
+    } else if (array instanceof int[]) {
+      return ((int[]) array).length;
+    } else if (array instanceof long[]) {
+      return ((long[]) array).length;
+    } else {
+      return Array.getLength(array);
+    }
+  }
+
+  private static String toVariableName(String parameterPath) {
+    StringBuilder sb = new StringBuilder(parameterPath.length());
+    for (int i = 0; i < parameterPath.length(); i++) {
+      char c = parameterPath.charAt(i);
+      sb.append(Character.isJavaIdentifierPart(c) ? c : '_');
+    }
+    return sb.toString();
+  }
+
+  private String renderBindVariable(MyBatisBindingContext bindingContext, String parameterPath, String options) {
+    if (bindVariableRender == BindVariableRender.BuiltIn.MYBATIS && bindingContext != null
+        && bindingContext.isDirectBinding()) {
+      bindingContext.addParameterBinding(parameterPath, options);
+      return "?";
+    }
+    return bindVariableRender.apply(parameterPath + options);
+  }
+
+  /**
+   * The parsed attribute value that cached per attribute value (the options parsing is not repeated on every
+   * rendering).
+   */
+  private static class ParsedAttribute {
+
+    private final String parameterPath;
+    private final String objectName;
+    private final String nestedPropertyPath;
+    private final String iterationObjectName;
+    private final ParamOptions paramOptions;
+
+    private ParsedAttribute(String attributeValue, boolean defaultPadding, boolean defaultArrayBinding,
+        boolean defaultIterableExpansion) {
+      Pair parameterAndOptionPair = Pair.parse(attributeValue, ',');
+      this.parameterPath = parameterAndOptionPair.left;
+      this.paramOptions = ParamOptions.parse(parameterAndOptionPair.right, defaultPadding, defaultArrayBinding,
+          defaultIterableExpansion);
+      Pair objectNameAndPropertyPathPair = Pair.parse(parameterPath, '.');
+      this.objectName = objectNameAndPropertyPathPair.left;
+      this.nestedPropertyPath = objectNameAndPropertyPathPair.right;
+      this.iterationObjectName = objectName + "Stat";
+    }
+
+  }
+
+  private static class ParamOptions {
+
+    private final String options;
+    private final boolean padding;
+    private final boolean arrayBinding;
+    private final boolean iterableExpansion;
+    private final String temporaryTable;
+    private final String[] propertyPaths;
+
+    private ParamOptions(String options, boolean padding, boolean arrayBinding, boolean iterableExpansion,
+        String temporaryTable, String[] propertyPaths) {
+      this.options = options;
+      this.padding = padding;
+      this.arrayBinding = arrayBinding;
+      this.iterableExpansion = iterableExpansion;
+      this.temporaryTable = temporaryTable;
+      this.propertyPaths = propertyPaths;
+    }
+
+    private static ParamOptions parse(String options, boolean defaultPadding, boolean defaultArrayBinding,
+        boolean defaultIterableExpansion) {
+      if (!options.contains(PADDING_OPTION_NAME) && !options.contains(ARRAY_OPTION_NAME)
+          && !options.contains(ITERABLE_OPTION_NAME) && !options.contains(TEMPORARY_TABLE_OPTION_NAME)
+          && !options.contains(PROPERTIES_OPTION_NAME)) {
+        return new ParamOptions(options, defaultPadding, defaultArrayBinding, defaultIterableExpansion, null, null);
+      }
+      // Extract options that handled by this processor (these options are not passed to a bind variable)
+      boolean padding = defaultPadding;
+      boolean paddingSpecified = false;
+      boolean arrayBinding = defaultArrayBinding;
+      boolean iterableExpansion = defaultIterableExpansion;
+      String temporaryTable = null;
+      String[] propertyPaths = null;
+      StringBuilder sb = new StringBuilder(options.length());
+      for (String option : options.substring(1).split(",")) {
+        int equalIndex = option.indexOf('=');
+        String optionName = equalIndex == -1 ? "" : option.substring(0, equalIndex).trim();
+        String optionValue = equalIndex == -1 ? "" : option.substring(equalIndex + 1).trim();
+        if (optionName.equals(PADDING_OPTION_NAME)) {
+          padding = Boolean.parseBoolean(optionValue);
+          paddingSpecified = true;
+        } else if (optionName.equals(ARRAY_OPTION_NAME)) {
+          arrayBinding = Boolean.parseBoolean(optionValue);
+        } else if (optionName.equals(ITERABLE_OPTION_NAME)) {
+          iterableExpansion = Boolean.parseBoolean(optionValue);
+        } else if (optionName.equals(TEMPORARY_TABLE_OPTION_NAME)) {
+          temporaryTable = optionValue;
+        } else if (optionName.equals(PROPERTIES_OPTION_NAME)) {
+          propertyPaths = toPropertyPaths(optionValue);
+        } else {
+          sb.append(',').append(option);
+        }
+      }
+      if (propertyPaths != null && !paddingSpecified) {
+        // Row values are not padded by default because these are used for VALUES clause too (a padded row is inserted)
+        padding = false;
+      }
+      return new ParamOptions(sb.toString(), padding, arrayBinding, iterableExpansion, temporaryTable,
+          propertyPaths);
+    }
+
+    private static String[] toPropertyPaths(String value) {
+      String[] properties = value.split("\\|");
+      String[] propertyPaths = new String[properties.length];
+      for (int i = 0; i < properties.length; i++) {
+        String property = properties[i].trim();
+        if (property.isEmpty()) {
+          throw new IllegalArgumentException(String.format(
+              "The '%s' option requires property names separated by '|'. value='%s'", PROPERTIES_OPTION_NAME, value));
+        }
+        propertyPaths[i] = "." + property;
+      }
+      return propertyPaths;
+    }
+
   }
 
   private static class Pair {
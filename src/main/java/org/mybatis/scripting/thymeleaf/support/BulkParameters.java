@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The support class for executing a bulk operation (e.g. multi-row insert) within the limit of bind variables.
+ * <p>
+ * Many JDBC drivers and databases limit the number of bind variables per statement (e.g. 32767 or 65535). This class
+ * splits elements into chunks that can be rendered by the {@code mb:p} with the {@code properties} option (e.g.
+ * {@code VALUES (#{list[0].a}, #{list[0].b}), (#{list[1].a}, #{list[1].b})}) without exceeding the limit, so you can
+ * execute a statement per chunk as follow:
+ * </p>
+ *
+ * <pre>
+ * for (List&lt;Name&gt; chunk : BulkParameters.split(names, 2, 32767)) {
+ *   mapper.insertByBulk(chunk);
+ * }
+ * </pre>
+ * <p>
+ * Note that multi-row values should not be padded (a padded row value is inserted twice), so do not specify the
+ * {@code padding=true} option on it (the {@code dialect.in-clause-parameter-padding} is not applied to it).
+ * </p>
+ *
+ * @since 1.2.1
+ */
+public class BulkParameters {
+
+  private BulkParameters() {
+    // NOP
+  }
+
+  /**
+   * Split elements into chunks that does not exceed the limit of bind variables.
+   *
+   * @param <T>
+   *          the element type
+   * @param elements
+   *          elements to split
+   * @param bindVariablesPerElement
+   *          the number of bind variables per element (e.g. the number of columns per row)
+   * @param bindVariableLimit
+   *          the maximum number of bind variables per statement
+   *
+   * @return chunks of elements (each chunk is a view of specified list)
+   */
+  public static <T> List<List<T>> split(List<T> elements, int bindVariablesPerElement, int bindVariableLimit) {
+    if (bindVariablesPerElement <= 0) {
+      throw new IllegalArgumentException(
+          "The bindVariablesPerElement should be greater than zero. value=" + bindVariablesPerElement);
+    }
+    if (bindVariableLimit < bindVariablesPerElement) {
+      throw new IllegalArgumentException(
+          String.format("The bindVariableLimit should be greater than or equal to bindVariablesPerElement."
+              + " bindVariableLimit=%d, bindVariablesPerElement=%d", bindVariableLimit, bindVariablesPerElement));
+    }
+    int chunkSize = bindVariableLimit / bindVariablesPerElement;
+    int size = elements.size();
+    if (size <= chunkSize) {
+      return size == 0 ? Collections.emptyList() : Collections.singletonList(elements);
+    }
+    List<List<T>> chunks = new ArrayList<>((size + chunkSize - 1) / chunkSize);
+    for (int from = 0; from < size; from += chunkSize) {
+      chunks.add(elements.subList(from, Math.min(from + chunkSize, size)));
+    }
+    return chunks;
+  }
+
+}
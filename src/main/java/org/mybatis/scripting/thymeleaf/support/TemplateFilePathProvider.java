@@ -17,12 +17,16 @@ package org.mybatis.scripting.thymeleaf.support;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 import org.apache.ibatis.builder.annotation.ProviderContext;
 import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.io.VFS;
 import org.mybatis.scripting.thymeleaf.ThymeleafLanguageDriver;
 import org.mybatis.scripting.thymeleaf.ThymeleafLanguageDriverConfig;
 import org.mybatis.scripting.thymeleaf.ThymeleafLanguageDriverConfig.TemplateFileConfig.PathProviderConfig;
@@ -80,6 +84,8 @@ public class TemplateFilePathProvider {
 
   private static ConcurrentMap<ProviderContext, String> cache = new ConcurrentHashMap<>();
 
+  private static volatile TemplateFileIndex templateFileIndex;
+
   private TemplateFilePathProvider() {
     // NOP
   }
@@ -110,6 +116,7 @@ public class TemplateFilePathProvider {
   public static void setLanguageDriverConfig(ThymeleafLanguageDriverConfig languageDriverConfig) {
     TemplateFilePathProvider.languageDriverConfig = Optional.ofNullable(languageDriverConfig)
         .orElse(DEFAULT_LANGUAGE_DRIVER_CONFIG);
+    templateFileIndex = null;
   }
 
   /**
@@ -139,12 +146,34 @@ public class TemplateFilePathProvider {
 
   /**
    * Clear cache.
+   * <p>
+   * Since 1.2.1, an index of template files is also cleared (it is created again at next resolution).
+   * </p>
    */
   public static void clearCache() {
     cache.clear();
+    templateFileIndex = null;
   }
 
-  static String providePath(Class<?> mapperType, Method mapperMethod, String databaseId) {
+  /**
+   * Provide a template file path for specified mapper method without cache.
+   * <p>
+   * This method resolves a template file path in the same way as {@link #provideSql(ProviderContext)}, and it can be
+   * used without a context of SQL provider (e.g. compiling templates in advance).
+   * </p>
+   *
+   * @param mapperType
+   *          a mapper interface type
+   * @param mapperMethod
+   *          a mapper method
+   * @param databaseId
+   *          a database id (can be {@code null})
+   *
+   * @return a template file path
+   *
+   * @since 1.2.1
+   */
+  public static String providePath(Class<?> mapperType, Method mapperMethod, String databaseId) {
     boolean fallbackDeclaringClass = mapperType != mapperMethod.getDeclaringClass();
     boolean fallbackDatabase = databaseId != null;
     String path = pathGenerator.generatePath(mapperType, mapperMethod, databaseId);
@@ -206,6 +235,12 @@ public class TemplateFilePathProvider {
   private static boolean exists(String path) {
     String basePath = languageDriverConfig.getTemplateFile().getBaseDir();
     String actualPath = basePath.isEmpty() ? path : basePath + (basePath.endsWith("/") ? "" : "/") + path;
+    if (languageDriverConfig.getTemplateFile().getPathProvider().isIndexEnabled()) {
+      Boolean exists = getTemplateFileIndex().exists(actualPath);
+      if (exists != null) {
+        return exists;
+      }
+    }
     try {
       Resources.getResourceURL(actualPath);
       return true;
@@ -214,6 +249,85 @@ public class TemplateFilePathProvider {
     }
   }
 
+  private static TemplateFileIndex getTemplateFileIndex() {
+    TemplateFileIndex index = templateFileIndex;
+    if (index == null) {
+      synchronized (TemplateFilePathProvider.class) {
+        index = templateFileIndex;
+        if (index == null) {
+          index = TemplateFileIndex.create(languageDriverConfig.getTemplateFile().getBaseDir(),
+              languageDriverConfig.getTemplateFile().getPathProvider().getPrefix());
+          templateFileIndex = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * The index of template files. Template files are listed once per directory (the directory indicated by the base
+   * directory and the prefix, or a parent directory of template file).
+   */
+  private static class TemplateFileIndex {
+
+    private static final String TEMPLATE_FILE_SUFFIX = ".sql";
+
+    private static final Set<String> UNLISTABLE = Collections.emptySet();
+
+    private final String rootDirectory;
+    private final ConcurrentMap<String, Set<String>> directories = new ConcurrentHashMap<>();
+
+    private TemplateFileIndex(String rootDirectory) {
+      this.rootDirectory = rootDirectory;
+    }
+
+    private static TemplateFileIndex create(String baseDir, String prefix) {
+      String location = (baseDir.isEmpty() || baseDir.endsWith("/") ? baseDir : baseDir + "/") + prefix;
+      int separatorIndex = location.lastIndexOf('/');
+      return new TemplateFileIndex(separatorIndex <= 0 ? null : location.substring(0, separatorIndex));
+    }
+
+    /**
+     * Return whether a template file exists.
+     *
+     * @param path
+     *          a template file path
+     *
+     * @return If exists, return {@code true} (If cannot determine using this index, return {@code null})
+     */
+    private Boolean exists(String path) {
+      if (!path.endsWith(TEMPLATE_FILE_SUFFIX)) {
+        // Only '.sql' files are indexed (e.g. a path generated by custom path generator may use another suffix)
+        return null;
+      }
+      String directory;
+      if (rootDirectory != null && path.startsWith(rootDirectory + "/")) {
+        directory = rootDirectory;
+      } else {
+        int separatorIndex = path.lastIndexOf('/');
+        if (separatorIndex <= 0) {
+          // Does not scan whole class path
+          return null;
+        }
+        directory = path.substring(0, separatorIndex);
+      }
+      Set<String> paths = directories.computeIfAbsent(directory, TemplateFileIndex::list);
+      // When cannot list resources (e.g. not exists or unsupported class loader), resolve using the class loader
+      return paths == UNLISTABLE ? null : paths.contains(path);
+    }
+
+    private static Set<String> list(String directory) {
+      try {
+        Set<String> paths = VFS.getInstance().list(directory).stream()
+            .filter(path -> path.endsWith(TEMPLATE_FILE_SUFFIX)).collect(Collectors.toSet());
+        return paths.isEmpty() ? UNLISTABLE : paths;
+      } catch (IOException e) {
+        return UNLISTABLE;
+      }
+    }
+
+  }
+
   /**
    * The interface that implements a function for generating template file path.
    */
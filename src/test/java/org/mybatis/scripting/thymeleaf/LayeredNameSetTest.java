@@ -0,0 +1,69 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LayeredNameSetTest {
+
+  @Test
+  void containsAndIterate() {
+    Set<String> names = LayeredNameSet.of(Set.of("a", "b"), Set.of(), Set.of("b", "c"));
+    Assertions.assertTrue(names.contains("a"));
+    Assertions.assertTrue(names.contains("b"));
+    Assertions.assertTrue(names.contains("c"));
+    Assertions.assertFalse(names.contains("d"));
+    Assertions.assertEquals(3, names.size());
+    Assertions.assertFalse(names.isEmpty());
+    List<String> iterated = new ArrayList<>();
+    names.forEach(iterated::add);
+    Assertions.assertEquals(3, iterated.size());
+    Assertions.assertEquals(Set.of("a", "b", "c"), Set.copyOf(iterated));
+  }
+
+  @Test
+  void empty() {
+    Set<String> names = LayeredNameSet.of(Set.of(), Set.of());
+    Assertions.assertTrue(names.isEmpty());
+    Assertions.assertEquals(0, names.size());
+    Assertions.assertFalse(names.iterator().hasNext());
+  }
+
+  @Test
+  void reflectChangesOfLayers() {
+    Map<String, Object> variables = new HashMap<>();
+    Set<String> names = LayeredNameSet.of(variables.keySet(), Set.of("a"));
+    Assertions.assertFalse(names.contains("b"));
+    variables.put("b", 1);
+    variables.put("a", 2);
+    Assertions.assertTrue(names.contains("b"));
+    Assertions.assertEquals(2, names.size());
+  }
+
+  @Test
+  void unmodifiable() {
+    Set<String> names = LayeredNameSet.of(Set.of("a"));
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> names.add("b"));
+  }
+
+}
@@ -31,7 +31,13 @@ class SqlGeneratorConfigTest {
     SqlGeneratorConfig config = SqlGeneratorConfig
         .newInstanceWithResourcePath("mybatis-thymeleaf-custom-without-path-provider.properties");
     Assertions.assertEquals(StandardCharsets.ISO_8859_1, config.getTemplateFile().getEncoding());
+    Assertions.assertTrue(config.getTemplateFile().isAsyncRefreshEnabled());
     Assertions.assertEquals(SpringNamedParameterBindVariableRender.class, config.getDialect().getBindVariableRender());
+    Assertions.assertFalse(config.getTemplateCache().isInlineEnabled());
+    Assertions.assertEquals(500, config.getTemplateCache().getMaxSize());
+    Assertions.assertTrue(config.getDialect().isInClauseParameterPadding());
+    Assertions.assertTrue(config.getDialect().isArrayParameterBinding());
+    Assertions.assertTrue(config.getDialect().isIterableParameterExpansion());
   }
 
   @Test
@@ -16,12 +16,30 @@
 package org.mybatis.scripting.thymeleaf;
 
 import java.beans.PropertyDescriptor;
+import java.io.IOException;
 import java.io.Reader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.apache.ibatis.io.Resources;
@@ -30,6 +48,7 @@ import org.hsqldb.jdbc.JDBCDataSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mybatis.scripting.thymeleaf.processor.BindVariableRender;
 import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.BeanWrapperImpl;
@@ -39,7 +58,16 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.thymeleaf.IEngineConfiguration;
 import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.AlwaysValidCacheEntryValidity;
+import org.thymeleaf.cache.StandardCacheManager;
+import org.thymeleaf.exceptions.TemplateInputException;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+import org.thymeleaf.templateresource.ITemplateResource;
+import org.thymeleaf.templateresource.StringTemplateResource;
 
 class SqlGeneratorTest {
 
@@ -145,6 +173,330 @@ class SqlGeneratorTest {
     }
   }
 
+  @Test
+  void processWithInlineTemplateCache() {
+    TemplateEngine[] templateEngines = new TemplateEngine[1];
+    SqlGeneratorConfig config = new SqlGeneratorConfig();
+    config.setCustomizerInstance(e -> templateEngines[0] = e);
+    SqlGenerator sqlGenerator = new SqlGenerator(config);
+    // @formatter: off
+    String sqlTemplate = "SELECT * FROM names " + "/*[# th:if='${id != null}']*/ "
+        + "WHERE id = /*[# mb:p='id']*/ 1 /*[/]*/ " + "/*[/]*/";
+    // @formatter: on
+    Param param = new Param();
+    param.id = 5;
+
+    Assertions.assertEquals("SELECT * FROM names  WHERE id = #{id} ", sqlGenerator.generate(sqlTemplate, param));
+    Assertions.assertEquals("SELECT * FROM names ", sqlGenerator.generate(sqlTemplate, new Param()));
+    Assertions.assertEquals("SELECT * FROM names  WHERE id = #{id} ",
+        sqlGenerator.generate(new StringBuilder(sqlTemplate), param));
+
+    Assertions.assertEquals(1, templateEngines[0].getCacheManager().getTemplateCache().keySet().size());
+  }
+
+  @Test
+  void processWithInlineTemplateCacheDisabled() {
+    TemplateEngine[] templateEngines = new TemplateEngine[1];
+    SqlGeneratorConfig config = new SqlGeneratorConfig();
+    config.setCustomizerInstance(e -> templateEngines[0] = e);
+    config.getTemplateCache().setInlineEnabled(false);
+    SqlGenerator sqlGenerator = new SqlGenerator(config);
+    String sqlTemplate = "SELECT * FROM names WHERE id = /*[# mb:p='id']*/ 1 /*[/]*/";
+    Param param = new Param();
+    param.id = 5;
+
+    Assertions.assertEquals("SELECT * FROM names WHERE id = #{id}", sqlGenerator.generate(sqlTemplate, param));
+
+    Assertions.assertEquals(0, templateEngines[0].getCacheManager().getTemplateCache().keySet().size());
+  }
+
+  @Test
+  void compileAndRenderAll() {
+    SqlGenerator sqlGenerator = new SqlGenerator();
+    SqlTemplate sqlTemplate = sqlGenerator.compile("SELECT * FROM names WHERE 1 = 1"
+        + " /*[# th:if='${name != null}']*/ /*[# mb:bind='patternName=|${name}%|' /]*/"
+        + " AND firstName LIKE /*[# mb:p='patternName']*/ 'foo%' /*[/]*/ /*[/]*/");
+    List<Map<String, Object>> parameters = List.of(Map.of("name", "Fr"), Map.of(), Map.of("name", "Wi"));
+
+    Map<String, List<Map<String, Object>>> results = sqlTemplate.renderAll(parameters,
+        (parameter, customBindVariables) -> customBindVariables);
+    Assertions.assertEquals(List.of("SELECT * FROM names WHERE 1 = 1   AND firstName LIKE #{patternName} ",
+        "SELECT * FROM names WHERE 1 = 1 "), List.copyOf(results.keySet()));
+    List<Map<String, Object>> group = results
+        .get("SELECT * FROM names WHERE 1 = 1   AND firstName LIKE #{patternName} ");
+    Assertions.assertEquals(2, group.size());
+    Assertions.assertEquals("Fr%", group.get(0).get("patternName"));
+    Assertions.assertEquals("Wi%", group.get(1).get("patternName"));
+    group = results.get("SELECT * FROM names WHERE 1 = 1 ");
+    Assertions.assertEquals(1, group.size());
+    Assertions.assertTrue(group.get(0).isEmpty());
+  }
+
+  @Test
+  void compileWithInlineTemplate() {
+    TemplateEngine[] templateEngines = new TemplateEngine[1];
+    SqlGeneratorConfig config = new SqlGeneratorConfig();
+    config.setCustomizerInstance(e -> templateEngines[0] = e);
+    SqlGenerator sqlGenerator = new SqlGenerator(config);
+    // @formatter: off
+    SqlTemplate sqlTemplate = sqlGenerator.compile("SELECT * FROM names " + "/*[# th:if='${name != null}']*/ "
+        + "/*[# mb:bind='patternName=|${#likes.escapeWildcard(name)}%|' /]*/ "
+        + "WHERE firstName LIKE /*[# mb:p='patternName']*/ 'foo%' /*[/]*/ /*[(${#likes.escapeClause()})]*/ "
+        + "/*[/]*/");
+    // @formatter: on
+    {
+      Map<String, Object> customBindVariables = new HashMap<>();
+
+      String sql = sqlTemplate.render(Map.of("name", "Be%"), customBindVariables::put);
+
+      Assertions.assertEquals(sqlGenerator.generate(sqlTemplate.getTemplate(), Map.of("name", "Be%")), sql);
+      Assertions.assertTrue(sql.contains("WHERE firstName LIKE #{patternName} ESCAPE '\\'"));
+      Assertions.assertEquals("Be\\%%", customBindVariables.get("patternName"));
+    }
+    {
+      Map<String, Object> customBindVariables = new HashMap<>();
+
+      String sql = sqlTemplate.render(Map.of(), customBindVariables::put);
+
+      Assertions.assertEquals("SELECT * FROM names ", sql);
+      Assertions.assertTrue(customBindVariables.isEmpty());
+    }
+    templateEngines[0].getCacheManager().clearAllCaches();
+    Assertions.assertEquals("SELECT * FROM names ", sqlTemplate.render(Map.of()));
+    Assertions.assertEquals(0, templateEngines[0].getCacheManager().getTemplateCache().keySet().size());
+  }
+
+  @Test
+  void compileWithTemplateFile() {
+    SqlGeneratorConfig config = new SqlGeneratorConfig();
+    config.setUse2way(false);
+    SqlGenerator sqlGenerator = new SqlGenerator(config);
+    SqlTemplate sqlTemplate = sqlGenerator.compile("sql/OneWayNameMapper/findById.sql");
+
+    Assertions.assertEquals("sql/OneWayNameMapper/findById.sql", sqlTemplate.getTemplate());
+    {
+      String sql = sqlTemplate.render(Map.of("id", 1));
+
+      Assertions.assertEquals(sqlGenerator.generate("sql/OneWayNameMapper/findById.sql", Map.of("id", 1)), sql);
+      Assertions.assertTrue(sql.contains("AND id = #{id}"));
+    }
+    {
+      String sql = sqlTemplate.render(Map.of());
+
+      Assertions.assertEquals(sqlGenerator.generate("sql/OneWayNameMapper/findById.sql", Map.of()), sql);
+      Assertions.assertFalse(sql.contains("AND id = #{id}"));
+    }
+  }
+
+  @Test
+  void compileWithAsyncRefresh(@TempDir Path baseDir) throws Exception {
+    Path file = Files.write(baseDir.resolve("select.sql"), "SELECT 1".getBytes(StandardCharsets.UTF_8));
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { baseDir.toUri().toURL() }, null)) {
+      ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver(classLoader);
+      templateResolver.setTemplateMode(TemplateMode.TEXT);
+      templateResolver.setCacheTTLMs(1L);
+      TemplateEngine templateEngine = new TemplateEngine();
+      templateEngine.addTemplateResolver(templateResolver);
+      List<Runnable> tasks = new ArrayList<>();
+      SqlGenerator sqlGenerator = new SqlGenerator(templateEngine);
+      sqlGenerator.setTemplateRefreshExecutor(tasks::add);
+      SqlTemplate sqlTemplate = sqlGenerator.compile("select.sql");
+
+      Assertions.assertEquals("SELECT 1", sqlTemplate.render(null));
+      Assertions.assertTrue(tasks.isEmpty());
+
+      // Serve an expired template until refreshing is completed
+      Files.write(file, "SELECT 2".getBytes(StandardCharsets.UTF_8));
+      Thread.sleep(10);
+      Assertions.assertEquals("SELECT 1", sqlTemplate.render(null));
+      Assertions.assertEquals("SELECT 1", sqlTemplate.render(null));
+      Assertions.assertEquals(1, tasks.size());
+      tasks.remove(0).run();
+      Assertions.assertEquals("SELECT 2", sqlTemplate.render(null));
+
+      // Report an error at next rendering when refreshing is failed
+      Files.delete(file);
+      Thread.sleep(10);
+      Assertions.assertEquals("SELECT 2", sqlTemplate.render(null));
+      Assertions.assertEquals(1, tasks.size());
+      tasks.remove(0).run();
+      Assertions.assertThrows(TemplateInputException.class, () -> sqlTemplate.render(null));
+    }
+  }
+
+  @Test
+  void closeWithWatchEnabled() {
+    List<TemplateEngine> templateEngines = new ArrayList<>();
+    SqlGeneratorConfig config = SqlGeneratorConfig.newInstanceWithCustomizer(c -> {
+      c.setUse2way(false);
+      c.getTemplateFile().setWatchEnabled(true);
+    });
+    config.setCustomizerInstance(templateEngines::add);
+    SqlGenerator sqlGenerator = new SqlGenerator(config);
+    TemplateEngine templateEngine = templateEngines.get(0);
+    ClassLoaderTemplateResolver templateResolver = (ClassLoaderTemplateResolver) templateEngine.getTemplateResolvers()
+        .iterator().next();
+    String template = "sql/OneWayNameMapper/findById.sql";
+
+    Assertions.assertNotSame(AlwaysValidCacheEntryValidity.INSTANCE,
+        templateResolver.resolveTemplate(templateEngine.getConfiguration(), null, template, null).getValidity());
+
+    sqlGenerator.close();
+
+    Assertions.assertSame(AlwaysValidCacheEntryValidity.INSTANCE,
+        templateResolver.resolveTemplate(templateEngine.getConfiguration(), null, template, null).getValidity());
+    Assertions.assertTrue(sqlGenerator.compile(template).render(Map.of("id", 1)).contains("AND id = #{id}"));
+  }
+
+  @Test
+  void asyncRefreshExecutor() {
+    Assertions.assertNull(new SqlGenerator().getTemplateRefreshExecutor());
+    Assertions.assertSame(ForkJoinPool.commonPool(), new SqlGenerator(
+        SqlGeneratorConfig.newInstanceWithCustomizer(c -> c.getTemplateFile().setAsyncRefreshEnabled(true)))
+        .getTemplateRefreshExecutor());
+    Executor executor = Runnable::run;
+    Assertions.assertSame(executor, new SqlGenerator(SqlGeneratorConfig.newInstanceWithCustomizer(c -> {
+      c.getTemplateFile().setAsyncRefreshEnabled(true);
+      c.getTemplateFile().setRefreshExecutor(executor);
+    })).getTemplateRefreshExecutor());
+  }
+
+  @Test
+  void loadTemplateBySingleThread() throws Exception {
+    String template = "SELECT * FROM names WHERE id = /*[# mb:p='id']*/ 1 /*[/]*/";
+    {
+      AtomicInteger readCount = new AtomicInteger();
+      SqlGenerator sqlGenerator = new SqlGenerator(createReadCountingTemplateEngine(readCount));
+      List<String> sqls = renderConcurrently(param -> sqlGenerator.generate(template, param));
+
+      Assertions.assertEquals(1, readCount.get());
+      sqls.forEach(sql -> Assertions.assertEquals("SELECT * FROM names WHERE id = #{id}", sql));
+    }
+    {
+      AtomicInteger readCount = new AtomicInteger();
+      SqlTemplate sqlTemplate = new SqlGenerator(createReadCountingTemplateEngine(readCount)).compile(template);
+      List<String> sqls = renderConcurrently(sqlTemplate::render);
+
+      Assertions.assertEquals(1, readCount.get());
+      sqls.forEach(sql -> Assertions.assertEquals("SELECT * FROM names WHERE id = #{id}", sql));
+    }
+    {
+      AtomicInteger readCount = new AtomicInteger();
+      SqlGenerator sqlGenerator = new SqlGenerator(createReadCountingTemplateEngine(readCount));
+      List<String> sqls = renderConcurrently(param -> sqlGenerator.compile(template).render(param));
+
+      Assertions.assertEquals(1, readCount.get());
+      sqls.forEach(sql -> Assertions.assertEquals("SELECT * FROM names WHERE id = #{id}", sql));
+    }
+  }
+
+  @Test
+  void compileWithTemplateCache() {
+    String template = "SELECT * FROM names WHERE id = /*[# mb:p='id']*/ 1 /*[/]*/";
+    AtomicInteger readCount = new AtomicInteger();
+    TemplateEngine templateEngine = createReadCountingTemplateEngine(readCount);
+    SqlGenerator sqlGenerator = new SqlGenerator(templateEngine);
+    Param param = new Param();
+    param.id = 1;
+
+    Assertions.assertEquals("SELECT * FROM names WHERE id = #{id}", sqlGenerator.compile(template).render(param));
+    Assertions.assertEquals("SELECT * FROM names WHERE id = #{id}", sqlGenerator.compile(template).render(param));
+    Assertions.assertEquals("SELECT * FROM names WHERE id = #{id}", sqlGenerator.generate(template, param));
+
+    Assertions.assertEquals(1, readCount.get());
+    StandardCacheManager cacheManager = (StandardCacheManager) templateEngine.getCacheManager();
+    Assertions.assertEquals(1, cacheManager.getTemplateCache().keySet().size());
+  }
+
+  private static TemplateEngine createReadCountingTemplateEngine(AtomicInteger readCount) {
+    TemplateEngine templateEngine = new TemplateEngine();
+    templateEngine.addDialect(new MyBatisDialect());
+    StringTemplateResolver templateResolver = new StringTemplateResolver() {
+      @Override
+      protected ITemplateResource computeTemplateResource(IEngineConfiguration configuration, String ownerTemplate,
+          String template, Map<String, Object> templateResolutionAttributes) {
+        ITemplateResource resource = new StringTemplateResource(template);
+        return new ITemplateResource() {
+          @Override
+          public String getDescription() {
+            return resource.getDescription();
+          }
+
+          @Override
+          public String getBaseName() {
+            return resource.getBaseName();
+          }
+
+          @Override
+          public boolean exists() {
+            return resource.exists();
+          }
+
+          @Override
+          public Reader reader() throws IOException {
+            readCount.incrementAndGet();
+            try {
+              // Widen a window for loading a template concurrently
+              Thread.sleep(100);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return resource.reader();
+          }
+
+          @Override
+          public ITemplateResource relative(String relativeLocation) {
+            return resource.relative(relativeLocation);
+          }
+        };
+      }
+    };
+    templateResolver.setTemplateMode(TemplateMode.CSS);
+    templateResolver.setCacheable(true);
+    templateEngine.setTemplateResolver(templateResolver);
+    templateEngine.setEngineContextFactory(
+        new MyBatisIntegratingEngineContextFactory(templateEngine.getEngineContextFactory()));
+    return templateEngine;
+  }
+
+  private static List<String> renderConcurrently(Function<Param, String> renderer) throws Exception {
+    int threads = 8;
+    ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    try {
+      CountDownLatch startLatch = new CountDownLatch(1);
+      List<Future<String>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        Param param = new Param();
+        param.id = i;
+        Callable<String> task = () -> {
+          startLatch.await();
+          return renderer.apply(param);
+        };
+        futures.add(executorService.submit(task));
+      }
+      startLatch.countDown();
+      List<String> sqls = new ArrayList<>();
+      for (Future<String> future : futures) {
+        sqls.add(future.get());
+      }
+      return sqls;
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void compileWithTemplateEngine() {
+    SqlGenerator sqlGenerator = new SqlGenerator(new TemplateEngine());
+    String template = "SELECT * FROM names WHERE id = /*[# mb:p='id']*/ 1 /*[/]*/";
+    SqlTemplate sqlTemplate = sqlGenerator.compile(template);
+
+    Param param = new Param();
+    param.id = 5;
+
+    Assertions.assertEquals(template, sqlTemplate.render(param));
+  }
+
   @Test
   void processWithSimpleValue() {
     SqlGenerator sqlGenerator = new SqlGenerator(config);
@@ -235,6 +587,20 @@ class SqlGeneratorTest {
     }
   }
 
+  @Test
+  void processWithLocalVariableShadowingParameter() {
+    SqlGenerator sqlGenerator = new SqlGenerator(config);
+    // @formatter: off
+    String sqlTemplate = "SELECT /*[# th:with='id=${id * 10}']*/ /*[(${id})]*/ /*[/]*/, /*[(${id})]*/";
+    // @formatter: on
+    Param param = new Param();
+    param.id = 5;
+
+    String sql = sqlGenerator.generate(sqlTemplate, param);
+
+    Assertions.assertEquals("SELECT  50, 5", sql);
+  }
+
   @Test
   void processWithCustomBindVariablesStore() {
     SqlGenerator sqlGenerator = new SqlGenerator(config);
@@ -339,6 +705,226 @@ class SqlGeneratorTest {
     }
   }
 
+  @Test
+  void processWithNestedIteration() {
+    SqlGenerator sqlGenerator = new SqlGenerator(new SqlGeneratorConfig());
+    // @formatter: off
+    String sqlTemplate = "VALUES /*[# th:each='row : ${rows}']*/ (/*[# th:each='v : ${row}']*/"
+        + "/*[# mb:p='v']*/ 1 /*[/]*//*[/]*/)/*[/]*/";
+    // @formatter: on
+    Map<String, Object> customBindVariables = new HashMap<>();
+    String sql = sqlGenerator.generate(sqlTemplate, Map.of("rows", List.of(List.of(1, 2), List.of(3))),
+        customBindVariables::put);
+
+    Assertions.assertEquals("VALUES  (#{v_0_0}#{v_0_1}) (#{v_1_0})", sql);
+    Assertions.assertEquals(Map.of("v_0_0", 1, "v_0_1", 2, "v_1_0", 3), customBindVariables);
+  }
+
+  @Test
+  void processWithMultipleValues() {
+    SqlGenerator sqlGenerator = new SqlGenerator(new SqlGeneratorConfig());
+    String sqlTemplate = "SELECT * FROM names WHERE id IN (/*[# mb:p='ids']*/ 1 /*[/]*/)";
+
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids[0]}, #{ids[1]}, #{ids[2]})",
+        sqlGenerator.generate(sqlTemplate, Map.of("ids", List.of(1, 2, 3))));
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids[0]}, #{ids[1]})",
+        sqlGenerator.generate(sqlTemplate, Map.of("ids", new int[] { 1, 2 })));
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids[0]}, #{ids[1]})",
+        sqlGenerator.generate(sqlTemplate, Map.of("ids", new short[] { 1, 2 })));
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (null)",
+        sqlGenerator.generate(sqlTemplate, Map.of("ids", new long[0])));
+
+    // An iterable and stream object are bound as single value by default (e.g. java.nio.file.Path)
+    Iterable<Integer> iterable = () -> List.of(3, 4).iterator();
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids})",
+        sqlGenerator.generate(sqlTemplate, Map.of("ids", iterable)));
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids})",
+        sqlGenerator.generate(sqlTemplate, Map.of("ids", IntStream.of(1, 2))));
+
+    String iterableSqlTemplate = "SELECT * FROM names WHERE id IN (/*[# mb:p='ids,iterable=true']*/ 1 /*[/]*/)";
+    {
+      Map<String, Object> customBindVariables = new HashMap<>();
+      String sql = sqlGenerator.generate(iterableSqlTemplate, Map.of("ids", IntStream.of(1, 2)),
+          customBindVariables::put);
+      Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids_e0}, #{ids_e1})", sql);
+      Assertions.assertEquals(Map.of("ids_e0", 1, "ids_e1", 2), customBindVariables);
+    }
+    {
+      Map<String, Object> customBindVariables = new HashMap<>();
+      String sql = sqlGenerator.generate(iterableSqlTemplate, Map.of("ids", iterable), customBindVariables::put);
+      Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids_e0}, #{ids_e1})", sql);
+      Assertions.assertEquals(Map.of("ids_e0", 3, "ids_e1", 4), customBindVariables);
+    }
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (null)",
+        sqlGenerator.generate(iterableSqlTemplate, Map.of("ids", Stream.empty())));
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids[0]}, #{ids[1]})",
+        sqlGenerator.generate(iterableSqlTemplate, Map.of("ids", List.of(1, 2))));
+  }
+
+  @Test
+  void processWithIterableParameterExpansion() {
+    SqlGenerator sqlGenerator = new SqlGenerator(
+        SqlGeneratorConfig.newInstanceWithCustomizer(c -> c.getDialect().setIterableParameterExpansion(true)));
+    String sqlTemplate = "SELECT * FROM names WHERE id IN (/*[# mb:p='ids']*/ 1 /*[/]*/)";
+
+    Map<String, Object> customBindVariables = new HashMap<>();
+    String sql = sqlGenerator.generate(sqlTemplate, Map.of("ids", Stream.of(1, 2)), customBindVariables::put);
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids_e0}, #{ids_e1})", sql);
+    Assertions.assertEquals(Map.of("ids_e0", 1, "ids_e1", 2), customBindVariables);
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids})",
+        sqlGenerator.generate("SELECT * FROM names WHERE id IN (/*[# mb:p='ids,iterable=false']*/ 1 /*[/]*/)",
+            Map.of("ids", Stream.of(1, 2))));
+  }
+
+  @Test
+  void processWithInClauseParameterPadding() {
+    SqlGenerator sqlGenerator = new SqlGenerator(
+        SqlGeneratorConfig.newInstanceWithCustomizer(c -> c.getDialect().setInClauseParameterPadding(true)));
+    String sqlTemplate = "SELECT * FROM names WHERE id IN (/*[# mb:p='ids']*/ 1 /*[/]*/)";
+
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids[0]})",
+        sqlGenerator.generate(sqlTemplate, Map.of("ids", List.of(1))));
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids[0]}, #{ids[1]}, #{ids[2]}, #{ids[2]})",
+        sqlGenerator.generate(sqlTemplate, Map.of("ids", List.of(1, 2, 3))));
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids[0]}, #{ids[1]}, #{ids[2]}, #{ids[3]})",
+        sqlGenerator.generate(sqlTemplate, Map.of("ids", new int[] { 1, 2, 3, 4 })));
+    Assertions.assertEquals(
+        "SELECT * FROM names WHERE id IN (#{ids[0]}, #{ids[1]}, #{ids[2]}, #{ids[3]}, #{ids[4]}, #{ids[4]}, "
+            + "#{ids[4]}, #{ids[4]})",
+        sqlGenerator.generate(sqlTemplate, Map.of("ids", List.of(1, 2, 3, 4, 5))));
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids_e0}, #{ids_e1}, #{ids_e2}, #{ids_e2})",
+        sqlGenerator.generate("SELECT * FROM names WHERE id IN (/*[# mb:p='ids,iterable=true']*/ 1 /*[/]*/)",
+            Map.of("ids", Stream.of(1, 2, 3))));
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids[0]}, #{ids[1]}, #{ids[2]})",
+        sqlGenerator.generate("SELECT * FROM names WHERE id IN (/*[# mb:p='ids,padding=false']*/ 1 /*[/]*/)",
+            Map.of("ids", List.of(1, 2, 3))));
+  }
+
+  @Test
+  void processWithInClauseParameterPaddingOption() {
+    SqlGenerator sqlGenerator = new SqlGenerator(new SqlGeneratorConfig());
+    Assertions.assertEquals(
+        "SELECT * FROM names WHERE id IN (#{ids[0],jdbcType=INTEGER}, #{ids[1],jdbcType=INTEGER}, "
+            + "#{ids[2],jdbcType=INTEGER}, #{ids[2],jdbcType=INTEGER})",
+        sqlGenerator.generate(
+            "SELECT * FROM names WHERE id IN (/*[# mb:p='ids,padding=true,jdbcType=INTEGER']*/ 1 /*[/]*/)",
+            Map.of("ids", List.of(1, 2, 3))));
+    Assertions.assertEquals("SELECT * FROM names WHERE id = #{id,jdbcType=INTEGER}", sqlGenerator
+        .generate("SELECT * FROM names WHERE id = /*[# mb:p='id,jdbcType=INTEGER,padding=true']*/ 1 /*[/]*/",
+            Map.of("id", 1)));
+  }
+
+  @Test
+  void processWithArrayParameterBinding() {
+    SqlGenerator sqlGenerator = new SqlGenerator(
+        SqlGeneratorConfig.newInstanceWithCustomizer(c -> c.getDialect().setArrayParameterBinding(true)));
+    String sqlTemplate = "SELECT * FROM names WHERE id = ANY(/*[# mb:p='ids']*/ ARRAY[1] /*[/]*/)";
+
+    Map<String, Object> customBindVariables = new HashMap<>();
+    String sql = sqlGenerator.generate(sqlTemplate, Map.of("ids", List.of(1, 2, 3)), customBindVariables::put);
+    Assertions.assertEquals(
+        "SELECT * FROM names WHERE id = ANY(#{ids_e0,typeHandler=org.apache.ibatis.type.ArrayTypeHandler})", sql);
+    Assertions.assertArrayEquals(new Integer[] { 1, 2, 3 }, (Integer[]) customBindVariables.get("ids_e0"));
+
+    customBindVariables.clear();
+    sql = sqlGenerator.generate(sqlTemplate, Map.of("ids", new long[] { 1, 2 }), customBindVariables::put);
+    Assertions.assertEquals(
+        "SELECT * FROM names WHERE id = ANY(#{ids_e0,typeHandler=org.apache.ibatis.type.ArrayTypeHandler})", sql);
+    Assertions.assertArrayEquals(new Long[] { 1L, 2L }, (Long[]) customBindVariables.get("ids_e0"));
+
+    customBindVariables.clear();
+    sql = sqlGenerator.generate("SELECT * FROM names WHERE id IN (/*[# mb:p='ids,array=false']*/ 1 /*[/]*/)",
+        Map.of("ids", List.of(1, 2)), customBindVariables::put);
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids[0]}, #{ids[1]})", sql);
+    Assertions.assertTrue(customBindVariables.isEmpty());
+  }
+
+  @Test
+  void processWithRowValuesAndInClauseParameterPadding() {
+    SqlGenerator sqlGenerator = new SqlGenerator(
+        SqlGeneratorConfig.newInstanceWithCustomizer(c -> c.getDialect().setInClauseParameterPadding(true)));
+    List<Map<String, Object>> names = List.of(Map.of("firstName", "Fred", "lastName", "Flintstone"),
+        Map.of("firstName", "Barney", "lastName", "Rubble"), Map.of("firstName", "Wilma", "lastName", "Flintstone"));
+
+    // a multi-row insert is not padded by the dialect default
+    Assertions.assertEquals(
+        "INSERT INTO names (firstName, lastName) VALUES (#{names[0].firstName}, #{names[0].lastName}),"
+            + " (#{names[1].firstName}, #{names[1].lastName}), (#{names[2].firstName}, #{names[2].lastName})",
+        sqlGenerator.generate("INSERT INTO names (firstName, lastName) VALUES"
+            + " /*[# mb:p='names,properties=firstName|lastName']*/ ('Fred', 'Flintstone') /*[/]*/",
+            Map.of("names", names)));
+
+    // row values are padded only when the padding option is specified
+    Assertions.assertEquals(
+        "SELECT * FROM names WHERE (firstName, lastName) IN ((#{names[0].firstName}, #{names[0].lastName}),"
+            + " (#{names[1].firstName}, #{names[1].lastName}), (#{names[2].firstName}, #{names[2].lastName}),"
+            + " (#{names[2].firstName}, #{names[2].lastName}))",
+        sqlGenerator.generate("SELECT * FROM names WHERE (firstName, lastName) IN"
+            + " (/*[# mb:p='names,properties=firstName|lastName,padding=true']*/ ('Fred', 'Flintstone') /*[/]*/)",
+            Map.of("names", names)));
+  }
+
+  @Test
+  void processWithRowValues() {
+    SqlGenerator sqlGenerator = new SqlGenerator();
+    String sqlTemplate = "SELECT * FROM names WHERE (firstName, lastName) IN"
+        + " (/*[# mb:p='names,properties=firstName|lastName']*/ ('Fred', 'Flintstone') /*[/]*/)";
+
+    String sql = sqlGenerator.generate(sqlTemplate,
+        Map.of("names", List.of(Map.of("firstName", "Fred", "lastName", "Flintstone"),
+            Map.of("firstName", "Barney", "lastName", "Rubble"))));
+    Assertions.assertEquals(
+        "SELECT * FROM names WHERE (firstName, lastName) IN"
+            + " ((#{names[0].firstName}, #{names[0].lastName}), (#{names[1].firstName}, #{names[1].lastName}))",
+        sql);
+
+    sql = sqlGenerator.generate(
+        "SELECT * FROM names WHERE (firstName, lastName) IN"
+            + " (/*[# mb:p='names,properties=firstName | lastName,padding=true,jdbcType=VARCHAR']*/ ('a', 'b')"
+            + " /*[/]*/)",
+        Map.of("names", new Object[] { Map.of(), Map.of(), Map.of() }));
+    Assertions.assertEquals(
+        "SELECT * FROM names WHERE (firstName, lastName) IN"
+            + " ((#{names[0].firstName,jdbcType=VARCHAR}, #{names[0].lastName,jdbcType=VARCHAR}),"
+            + " (#{names[1].firstName,jdbcType=VARCHAR}, #{names[1].lastName,jdbcType=VARCHAR}),"
+            + " (#{names[2].firstName,jdbcType=VARCHAR}, #{names[2].lastName,jdbcType=VARCHAR}),"
+            + " (#{names[2].firstName,jdbcType=VARCHAR}, #{names[2].lastName,jdbcType=VARCHAR}))",
+        sql);
+
+    Map<String, Object> customBindVariables = new HashMap<>();
+    Map<String, Object> name = Map.of("firstName", "Fred", "lastName", "Flintstone");
+    sql = sqlGenerator.generate(sqlTemplate.replace("lastName']", "lastName,iterable=true']"),
+        Map.of("names", Stream.of(name)), customBindVariables::put);
+    Assertions.assertEquals(
+        "SELECT * FROM names WHERE (firstName, lastName) IN ((#{names_e0.firstName}, #{names_e0.lastName}))", sql);
+    Assertions.assertSame(name, customBindVariables.get("names_e0"));
+
+    sql = sqlGenerator.generate(
+        "SELECT * FROM names WHERE (firstName, lastName) ="
+            + " /*[# mb:p='name,properties=firstName|lastName']*/ ('Fred', 'Flintstone') /*[/]*/",
+        Map.of("name", name));
+    Assertions.assertEquals("SELECT * FROM names WHERE (firstName, lastName) = (#{name.firstName}, #{name.lastName})",
+        sql);
+  }
+
+  @Test
+  void processWithTemporaryTableOptionOnSqlGenerator() {
+    // The temporary table is not available on the SqlGenerator, so bind variables are rendered as usual
+    SqlGenerator sqlGenerator = new SqlGenerator();
+    String sqlTemplate = "SELECT * FROM names WHERE id IN"
+        + " (/*[# mb:p='ids,tempTable=tmp_ids.id,iterable=true']*/ 1 /*[/]*/)";
+
+    Map<String, Object> customBindVariables = new HashMap<>();
+    String sql = sqlGenerator.generate(sqlTemplate, Map.of("ids", List.of(1, 2)), customBindVariables::put);
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids[0]}, #{ids[1]})", sql);
+    Assertions.assertTrue(customBindVariables.isEmpty());
+
+    sql = sqlGenerator.generate(sqlTemplate, Map.of("ids", IntStream.of(3, 4)), customBindVariables::put);
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (#{ids_e0}, #{ids_e1})", sql);
+    Assertions.assertEquals(3, customBindVariables.get("ids_e0"));
+    Assertions.assertEquals(4, customBindVariables.get("ids_e1"));
+  }
+
   static class Param {
     private Integer id;
 
@@ -0,0 +1,89 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.JdbcType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TemporaryTableParameterHandlerTest {
+
+  @Test
+  void setNullUsingJdbcTypeForNull() throws SQLException {
+    Configuration configuration = new Configuration();
+    configuration.setJdbcTypeForNull(JdbcType.NULL);
+    MappedStatement mappedStatement = new MappedStatement.Builder(configuration, "test",
+        new StaticSqlSource(configuration, "SELECT * FROM names WHERE id IN (SELECT id FROM tmp_ids)"),
+        SqlCommandType.SELECT).build();
+    MyBatisBindingContext bindingContext = new MyBatisBindingContext(false, false, 1);
+    bindingContext.addTemporaryTableBinding("tmp_ids", "id", Arrays.asList(1, null));
+    BoundSql boundSql = TemporaryTableParameterHandler.bind(configuration,
+        mappedStatement.getBoundSql(null), bindingContext.getTemporaryTableBindings());
+
+    List<String> calls = new ArrayList<>();
+    Connection connection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+          if (method.getName().equals("prepareStatement")) {
+            return newPreparedStatement(null, calls);
+          }
+          return null;
+        });
+    new TemporaryTableParameterHandler(mappedStatement, null, boundSql,
+        TemporaryTableParameterHandler.getBindings(boundSql)).setParameters(newPreparedStatement(connection, calls));
+
+    Assertions.assertEquals(Arrays.asList("executeUpdate", "setInt", "addBatch", "setNull:" + JdbcType.NULL.TYPE_CODE,
+        "addBatch", "executeBatch"), calls);
+  }
+
+  private static PreparedStatement newPreparedStatement(Connection connection, List<String> calls) {
+    return (PreparedStatement) Proxy.newProxyInstance(TemporaryTableParameterHandlerTest.class.getClassLoader(),
+        new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "getConnection":
+              return connection;
+            case "executeUpdate":
+              calls.add(method.getName());
+              return 0;
+            case "executeBatch":
+              calls.add(method.getName());
+              return new int[0];
+            case "setNull":
+              calls.add(method.getName() + ":" + args[1]);
+              return null;
+            case "setInt":
+            case "addBatch":
+              calls.add(method.getName());
+              return null;
+            default:
+              return null;
+          }
+        });
+  }
+
+}
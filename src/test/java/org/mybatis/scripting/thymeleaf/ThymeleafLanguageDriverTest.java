@@ -22,14 +22,21 @@ import java.sql.Connection;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.scripting.LanguageDriver;
 import org.apache.ibatis.scripting.ScriptingException;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -48,6 +55,8 @@ import org.mybatis.scripting.thymeleaf.integrationtest.mapper.NameMapper;
 import org.mybatis.scripting.thymeleaf.integrationtest.mapper.NameParam;
 import org.mybatis.scripting.thymeleaf.support.TemplateFilePathProvider;
 import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.StandardCacheManager;
+import org.thymeleaf.exceptions.TemplateInputException;
 import org.thymeleaf.templatemode.TemplateMode;
 import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 import org.thymeleaf.templateresolver.StringTemplateResolver;
@@ -128,6 +137,7 @@ class ThymeleafLanguageDriverTest {
     Assertions.assertEquals(TemplateMode.CSS, classLoaderTemplateResolver.getTemplateMode());
     Assertions.assertTrue(classLoaderTemplateResolver.isCacheable());
     Assertions.assertNull(classLoaderTemplateResolver.getCacheTTLMs());
+    Assertions.assertFalse(classLoaderTemplateResolver instanceof WatchingClassLoaderTemplateResolver);
     Assertions.assertEquals("UTF-8", classLoaderTemplateResolver.getCharacterEncoding());
     Assertions.assertEquals("", classLoaderTemplateResolver.getPrefix());
     Assertions.assertEquals(new LinkedHashSet<>(Set.of("*.sql")), classLoaderTemplateResolver.getResolvablePatterns());
@@ -136,8 +146,10 @@ class ThymeleafLanguageDriverTest {
         .extractTemplateResolver(templateEngine, StringTemplateResolver.class)
         .orElseGet(() -> Assertions.fail("Cannot a StringTemplateResolver instance."));
     Assertions.assertEquals(TemplateMode.CSS, stringTemplateResolver.getTemplateMode());
-    Assertions.assertFalse(stringTemplateResolver.isCacheable());
+    Assertions.assertTrue(stringTemplateResolver.isCacheable());
     Assertions.assertNull(stringTemplateResolver.getCacheTTLMs());
+    Assertions.assertEquals(StandardCacheManager.DEFAULT_TEMPLATE_CACHE_MAX_SIZE,
+        ((StandardCacheManager) templateEngine.getCacheManager()).getTemplateCacheMaxSize());
 
     templateEngine.getDialects().stream().filter(MyBatisDialect.class::isInstance).findFirst()
         .map(MyBatisDialect.class::cast).ifPresent(v -> {
@@ -163,6 +175,7 @@ class ThymeleafLanguageDriverTest {
     Assertions.assertEquals(TemplateMode.TEXT, classLoaderTemplateResolver.getTemplateMode());
     Assertions.assertFalse(classLoaderTemplateResolver.isCacheable());
     Assertions.assertEquals(Long.valueOf(30000), classLoaderTemplateResolver.getCacheTTLMs());
+    Assertions.assertTrue(classLoaderTemplateResolver instanceof WatchingClassLoaderTemplateResolver);
     Assertions.assertEquals("ISO-8859-1", classLoaderTemplateResolver.getCharacterEncoding());
     Assertions.assertEquals("templates/", classLoaderTemplateResolver.getPrefix());
     Assertions.assertEquals(new LinkedHashSet<>(Arrays.asList("*.sql", "*.sql.template")),
@@ -173,6 +186,7 @@ class ThymeleafLanguageDriverTest {
         .orElseGet(() -> Assertions.fail("Cannot a StringTemplateResolver instance."));
     Assertions.assertEquals(TemplateMode.TEXT, stringTemplateResolver.getTemplateMode());
     Assertions.assertFalse(stringTemplateResolver.isCacheable());
+    Assertions.assertEquals(500, ((StandardCacheManager) templateEngine.getCacheManager()).getTemplateCacheMaxSize());
 
     templateEngine.getDialects().stream().filter(MyBatisDialect.class::isInstance).findFirst()
         .map(MyBatisDialect.class::cast).ifPresent(v -> {
@@ -201,6 +215,7 @@ class ThymeleafLanguageDriverTest {
     Assertions.assertEquals(TemplateMode.TEXT, classLoaderTemplateResolver.getTemplateMode());
     Assertions.assertFalse(classLoaderTemplateResolver.isCacheable());
     Assertions.assertEquals(Long.valueOf(30000), classLoaderTemplateResolver.getCacheTTLMs());
+    Assertions.assertTrue(classLoaderTemplateResolver instanceof WatchingClassLoaderTemplateResolver);
     Assertions.assertEquals("ISO-8859-1", classLoaderTemplateResolver.getCharacterEncoding());
     Assertions.assertEquals("templates/", classLoaderTemplateResolver.getPrefix());
     Assertions.assertEquals(new LinkedHashSet<>(Arrays.asList("*.sql", "*.sql.template")),
@@ -211,6 +226,7 @@ class ThymeleafLanguageDriverTest {
         .orElseGet(() -> Assertions.fail("Cannot a StringTemplateResolver instance."));
     Assertions.assertEquals(TemplateMode.TEXT, stringTemplateResolver.getTemplateMode());
     Assertions.assertFalse(stringTemplateResolver.isCacheable());
+    Assertions.assertEquals(500, ((StandardCacheManager) templateEngine.getCacheManager()).getTemplateCacheMaxSize());
 
     templateEngine.getDialects().stream().filter(MyBatisDialect.class::isInstance).findFirst()
         .map(MyBatisDialect.class::cast).ifPresent(v -> {
@@ -227,6 +243,12 @@ class ThymeleafLanguageDriverTest {
     Assertions.assertFalse(
         thymeleafLanguageDriverConfig.getTemplateFile().getPathProvider().isIncludesMapperNameWhenSeparateDirectory());
     Assertions.assertFalse(thymeleafLanguageDriverConfig.getTemplateFile().getPathProvider().isCacheEnabled());
+    Assertions.assertTrue(thymeleafLanguageDriverConfig.getTemplateFile().getPathProvider().isIndexEnabled());
+    Assertions.assertEquals(32, thymeleafLanguageDriverConfig.getSqlSource().getParameterMappingCacheSize());
+    Assertions.assertTrue(thymeleafLanguageDriverConfig.getSqlSource().isDirectBindingEnabled());
+    Assertions.assertEquals(1000, thymeleafLanguageDriverConfig.getSqlSource().getTemporaryTableThreshold());
+    Assertions.assertFalse(thymeleafLanguageDriverConfig.getSqlSource().isStaticSqlSourceEnabled());
+    Assertions.assertEquals(128, thymeleafLanguageDriverConfig.getSqlSource().getInstanceCacheSize());
 
   }
 
@@ -238,6 +260,7 @@ class ThymeleafLanguageDriverTest {
       c.setCustomizerInstance(new CustomTemplateEngineCustomizer());
       c.getTemplateFile().setCacheEnabled(false);
       c.getTemplateFile().setCacheTtl(30000L);
+      c.getTemplateFile().setWatchEnabled(true);
       c.getTemplateFile().setEncoding(StandardCharsets.ISO_8859_1);
       c.getTemplateFile().setBaseDir("templates/");
       c.getTemplateFile().setPatterns("*.sql", "*.sql.template");
@@ -246,6 +269,14 @@ class ThymeleafLanguageDriverTest {
       c.getTemplateFile().getPathProvider().setSeparateDirectoryPerMapper(false);
       c.getTemplateFile().getPathProvider().setIncludesMapperNameWhenSeparateDirectory(false);
       c.getTemplateFile().getPathProvider().setCacheEnabled(false);
+      c.getTemplateFile().getPathProvider().setIndexEnabled(true);
+      c.getSqlSource().setParameterMappingCacheSize(32);
+      c.getSqlSource().setDirectBindingEnabled(true);
+      c.getSqlSource().setTemporaryTableThreshold(1000);
+      c.getSqlSource().setStaticSqlSourceEnabled(false);
+      c.getSqlSource().setInstanceCacheSize(128);
+      c.getTemplateCache().setInlineEnabled(false);
+      c.getTemplateCache().setMaxSize(500);
       c.getDialect().setPrefix("mbs");
       c.getDialect().setLikeEscapeChar('~');
       c.getDialect().setLikeEscapeClauseFormat("escape '%s'");
@@ -265,6 +296,7 @@ class ThymeleafLanguageDriverTest {
     Assertions.assertEquals(TemplateMode.TEXT, classLoaderTemplateResolver.getTemplateMode());
     Assertions.assertFalse(classLoaderTemplateResolver.isCacheable());
     Assertions.assertEquals(Long.valueOf(30000), classLoaderTemplateResolver.getCacheTTLMs());
+    Assertions.assertTrue(classLoaderTemplateResolver instanceof WatchingClassLoaderTemplateResolver);
     Assertions.assertEquals("ISO-8859-1", classLoaderTemplateResolver.getCharacterEncoding());
     Assertions.assertEquals("templates/", classLoaderTemplateResolver.getPrefix());
     Assertions.assertEquals(new LinkedHashSet<>(Arrays.asList("*.sql", "*.sql.template")),
@@ -275,6 +307,7 @@ class ThymeleafLanguageDriverTest {
         .orElseGet(() -> Assertions.fail("Cannot a StringTemplateResolver instance."));
     Assertions.assertEquals(TemplateMode.TEXT, stringTemplateResolver.getTemplateMode());
     Assertions.assertFalse(stringTemplateResolver.isCacheable());
+    Assertions.assertEquals(500, ((StandardCacheManager) templateEngine.getCacheManager()).getTemplateCacheMaxSize());
 
     templateEngine.getDialects().stream().filter(MyBatisDialect.class::isInstance).findFirst()
         .map(MyBatisDialect.class::cast).ifPresent(v -> {
@@ -291,6 +324,12 @@ class ThymeleafLanguageDriverTest {
     Assertions.assertFalse(
         thymeleafLanguageDriverConfig.getTemplateFile().getPathProvider().isIncludesMapperNameWhenSeparateDirectory());
     Assertions.assertFalse(thymeleafLanguageDriverConfig.getTemplateFile().getPathProvider().isCacheEnabled());
+    Assertions.assertTrue(thymeleafLanguageDriverConfig.getTemplateFile().getPathProvider().isIndexEnabled());
+    Assertions.assertEquals(32, thymeleafLanguageDriverConfig.getSqlSource().getParameterMappingCacheSize());
+    Assertions.assertTrue(thymeleafLanguageDriverConfig.getSqlSource().isDirectBindingEnabled());
+    Assertions.assertEquals(1000, thymeleafLanguageDriverConfig.getSqlSource().getTemporaryTableThreshold());
+    Assertions.assertFalse(thymeleafLanguageDriverConfig.getSqlSource().isStaticSqlSourceEnabled());
+    Assertions.assertEquals(128, thymeleafLanguageDriverConfig.getSqlSource().getInstanceCacheSize());
   }
 
   @Test
@@ -302,6 +341,7 @@ class ThymeleafLanguageDriverTest {
     customProperties.setProperty("customizer", "org.mybatis.scripting.thymeleaf.CustomTemplateEngineCustomizer");
     customProperties.setProperty("template-file.cache-enabled", "false");
     customProperties.setProperty("template-file.cache-ttl", "30000");
+    customProperties.setProperty("template-file.watch-enabled", "true");
     customProperties.setProperty("template-file.encoding", "ISO-8859-1");
     customProperties.setProperty("template-file.base-dir", "templates/");
     customProperties.setProperty("template-file.patterns", "*.sql, *.sql.template");
@@ -310,6 +350,14 @@ class ThymeleafLanguageDriverTest {
     customProperties.setProperty("template-file.path-provider.separate-directory-per-mapper", "false");
     customProperties.setProperty("template-file.path-provider.includes-mapper-name-when-separate-directory", "false");
     customProperties.setProperty("template-file.path-provider.cache-enabled", "false");
+    customProperties.setProperty("template-file.path-provider.index-enabled", "true");
+    customProperties.setProperty("sql-source.parameter-mapping-cache-size", "32");
+    customProperties.setProperty("sql-source.direct-binding-enabled", "true");
+    customProperties.setProperty("sql-source.temporary-table-threshold", "1000");
+    customProperties.setProperty("sql-source.static-sql-source-enabled", "false");
+    customProperties.setProperty("sql-source.instance-cache-size", "128");
+    customProperties.setProperty("template-cache.inline-enabled", "false");
+    customProperties.setProperty("template-cache.max-size", "500");
     customProperties.setProperty("dialect.prefix", "mbs");
     customProperties.setProperty("dialect.like-escape-char", "~");
     customProperties.setProperty("dialect.like-escape-clause-format", "escape '%s'");
@@ -331,6 +379,7 @@ class ThymeleafLanguageDriverTest {
     Assertions.assertEquals(TemplateMode.TEXT, classLoaderTemplateResolver.getTemplateMode());
     Assertions.assertFalse(classLoaderTemplateResolver.isCacheable());
     Assertions.assertEquals(Long.valueOf(30000), classLoaderTemplateResolver.getCacheTTLMs());
+    Assertions.assertTrue(classLoaderTemplateResolver instanceof WatchingClassLoaderTemplateResolver);
     Assertions.assertEquals("ISO-8859-1", classLoaderTemplateResolver.getCharacterEncoding());
     Assertions.assertEquals("templates/", classLoaderTemplateResolver.getPrefix());
     Assertions.assertEquals(new LinkedHashSet<>(Arrays.asList("*.sql", "*.sql.template")),
@@ -341,6 +390,7 @@ class ThymeleafLanguageDriverTest {
         .orElseGet(() -> Assertions.fail("Cannot a StringTemplateResolver instance."));
     Assertions.assertEquals(TemplateMode.TEXT, stringTemplateResolver.getTemplateMode());
     Assertions.assertFalse(stringTemplateResolver.isCacheable());
+    Assertions.assertEquals(500, ((StandardCacheManager) templateEngine.getCacheManager()).getTemplateCacheMaxSize());
 
     templateEngine.getDialects().stream().filter(MyBatisDialect.class::isInstance).findFirst()
         .map(MyBatisDialect.class::cast).ifPresent(v -> {
@@ -357,6 +407,12 @@ class ThymeleafLanguageDriverTest {
     Assertions.assertFalse(
         thymeleafLanguageDriverConfig.getTemplateFile().getPathProvider().isIncludesMapperNameWhenSeparateDirectory());
     Assertions.assertFalse(thymeleafLanguageDriverConfig.getTemplateFile().getPathProvider().isCacheEnabled());
+    Assertions.assertTrue(thymeleafLanguageDriverConfig.getTemplateFile().getPathProvider().isIndexEnabled());
+    Assertions.assertEquals(32, thymeleafLanguageDriverConfig.getSqlSource().getParameterMappingCacheSize());
+    Assertions.assertTrue(thymeleafLanguageDriverConfig.getSqlSource().isDirectBindingEnabled());
+    Assertions.assertEquals(1000, thymeleafLanguageDriverConfig.getSqlSource().getTemporaryTableThreshold());
+    Assertions.assertFalse(thymeleafLanguageDriverConfig.getSqlSource().isStaticSqlSourceEnabled());
+    Assertions.assertEquals(128, thymeleafLanguageDriverConfig.getSqlSource().getInstanceCacheSize());
   }
 
   @Test
@@ -434,4 +490,127 @@ class ThymeleafLanguageDriverTest {
     }
   }
 
+  @Test
+  void testSqlSourceInstanceCache() {
+    System.setProperty("mybatis-thymeleaf.config.file", "mybatis-thymeleaf-empty.properties");
+    Configuration configuration = new Configuration();
+    String script = "SELECT * FROM names /*[# th:if='${id != null}']*/ WHERE id = /*[# mb:p='id']*/ 1 /*[/]*/ /*[/]*/";
+    ThymeleafLanguageDriver languageDriver = new ThymeleafLanguageDriver(
+        ThymeleafLanguageDriverConfig.newInstance(c -> c.getSqlSource().setInstanceCacheSize(2)));
+
+    SqlSource sqlSource = languageDriver.createSqlSource(configuration, script, NameParam.class);
+    Assertions.assertSame(sqlSource, languageDriver.createSqlSource(configuration, script, NameParam.class));
+    Assertions.assertNotSame(sqlSource, languageDriver.createSqlSource(configuration, script, Name.class));
+    Assertions.assertNotSame(sqlSource, languageDriver.createSqlSource(new Configuration(), script, NameParam.class));
+    Assertions.assertNotSame(sqlSource, languageDriver.createSqlSource(configuration, script + " ", NameParam.class));
+
+    // an entry that is not used for the longest time is evicted
+    languageDriver = new ThymeleafLanguageDriver(
+        ThymeleafLanguageDriverConfig.newInstance(c -> c.getSqlSource().setInstanceCacheSize(2)));
+    sqlSource = languageDriver.createSqlSource(configuration, script, NameParam.class);
+    SqlSource otherSqlSource = languageDriver.createSqlSource(configuration, script, Name.class);
+    Assertions.assertSame(sqlSource, languageDriver.createSqlSource(configuration, script, NameParam.class));
+    languageDriver.createSqlSource(configuration, script + " ", NameParam.class);
+    Assertions.assertSame(sqlSource, languageDriver.createSqlSource(configuration, script, NameParam.class));
+    Assertions.assertNotSame(otherSqlSource, languageDriver.createSqlSource(configuration, script, Name.class));
+
+    // the number of entries is kept within the max size
+    languageDriver = new ThymeleafLanguageDriver(
+        ThymeleafLanguageDriverConfig.newInstance(c -> c.getSqlSource().setInstanceCacheSize(100)));
+    sqlSource = languageDriver.createSqlSource(configuration, script, NameParam.class);
+    for (int i = 0; i < 1000; i++) {
+      languageDriver.createSqlSource(configuration, script + " ".repeat(i + 1), NameParam.class);
+      Assertions.assertSame(sqlSource, languageDriver.createSqlSource(configuration, script, NameParam.class));
+    }
+
+    languageDriver = new ThymeleafLanguageDriver(
+        ThymeleafLanguageDriverConfig.newInstance(c -> c.getSqlSource().setInstanceCacheSize(0)));
+    Assertions.assertNotSame(languageDriver.createSqlSource(configuration, script, NameParam.class),
+        languageDriver.createSqlSource(configuration, script, NameParam.class));
+  }
+
+  @Test
+  void testCompileTemplates() {
+    System.setProperty("mybatis-thymeleaf.config.file", "mybatis-thymeleaf-empty.properties");
+    Configuration configuration = new Configuration();
+    ThymeleafLanguageDriver languageDriver = new ThymeleafLanguageDriver(ThymeleafLanguageDriverConfig.newInstance());
+    XMLLanguageDriver xmlLanguageDriver = new XMLLanguageDriver();
+    addMappedStatement(configuration, "test.dynamic", languageDriver,
+        "SELECT * FROM names /*[# th:if='${id != null}']*/ WHERE id = /*[# mb:p='id']*/ 1 /*[/]*/ /*[/]*/");
+    addMappedStatement(configuration, "test.notFound", languageDriver, "sql/NotFound.sql");
+    addMappedStatement(configuration, "test.straightLine", languageDriver, "SELECT * FROM names");
+    addMappedStatement(configuration, "test.xml", xmlLanguageDriver, "SELECT * FROM names");
+
+    ThymeleafLanguageDriver.CompilationReport report = languageDriver.compileTemplates(configuration);
+
+    Assertions.assertFalse(report.isSuccessful());
+    Assertions.assertEquals(Set.of("test.dynamic"), report.getCompiledStatements().keySet());
+    Assertions.assertEquals(Set.of("test.notFound"), report.getFailedStatements().keySet());
+    Assertions.assertEquals(TemplateInputException.class, report.getFailedStatements().get("test.notFound").getClass());
+    Assertions.assertEquals(List.of("test.straightLine"), report.getSkippedStatements());
+    Assertions.assertTrue(report.getElapsedTime().compareTo(report.getCompiledStatements().get("test.dynamic")) >= 0);
+  }
+
+  @Test
+  void testParameterMappingCacheStats() {
+    System.setProperty("mybatis-thymeleaf.config.file", "mybatis-thymeleaf-empty.properties");
+    Configuration configuration = new Configuration();
+    ThymeleafLanguageDriver languageDriver = new ThymeleafLanguageDriver(ThymeleafLanguageDriverConfig.newInstance());
+    MappedStatement mappedStatement = new MappedStatement.Builder(configuration, "test.dynamic",
+        languageDriver.createSqlSource(configuration,
+            "SELECT * FROM names /*[# th:if='${id != null}']*/ WHERE id = /*[# mb:p='id']*/ 1 /*[/]*/ /*[/]*/",
+            Map.class),
+        SqlCommandType.SELECT).lang(languageDriver).build();
+    configuration.addMappedStatement(mappedStatement);
+    addMappedStatement(configuration, "test.straightLine", languageDriver, "SELECT * FROM names");
+    addMappedStatement(configuration, "test.xml", new XMLLanguageDriver(), "SELECT * FROM names");
+
+    mappedStatement.getBoundSql(Map.of("id", 1));
+    mappedStatement.getBoundSql(Map.of("id", 2));
+    mappedStatement.getBoundSql(Map.of());
+
+    Map<String, ThymeleafLanguageDriver.ParameterMappingCacheStats> stats = languageDriver
+        .getParameterMappingCacheStats(configuration);
+    Assertions.assertEquals(Set.of("test.dynamic"), stats.keySet());
+    Assertions.assertEquals(1, stats.get("test.dynamic").getHitCount());
+    Assertions.assertEquals(2, stats.get("test.dynamic").getMissCount());
+    Assertions.assertEquals(2, stats.get("test.dynamic").getSize());
+  }
+
+  @Test
+  void testRenderAll() {
+    System.setProperty("mybatis-thymeleaf.config.file", "mybatis-thymeleaf-empty.properties");
+    Configuration configuration = new Configuration();
+    ThymeleafLanguageDriver languageDriver = new ThymeleafLanguageDriver(ThymeleafLanguageDriverConfig.newInstance());
+    MappedStatement mappedStatement = new MappedStatement.Builder(configuration, "test.dynamic",
+        languageDriver.createSqlSource(configuration,
+            "SELECT * FROM names /*[# th:if='${id != null}']*/ WHERE id = /*[# mb:p='id']*/ 1 /*[/]*/ /*[/]*/",
+            Map.class),
+        SqlCommandType.SELECT).lang(languageDriver).build();
+    Map<String, Object> parameter1 = Map.of("id", 1);
+    Map<String, Object> parameter2 = Map.of();
+    Map<String, Object> parameter3 = Map.of("id", 3);
+
+    Map<String, List<BoundSql>> boundSqlGroups = languageDriver.renderAll(mappedStatement,
+        List.of(parameter1, parameter2, parameter3));
+
+    Assertions.assertEquals(List.of("SELECT * FROM names  WHERE id = ? ", "SELECT * FROM names "),
+        List.copyOf(boundSqlGroups.keySet()));
+    List<BoundSql> boundSqls = boundSqlGroups.get("SELECT * FROM names  WHERE id = ? ");
+    Assertions.assertEquals(2, boundSqls.size());
+    Assertions.assertSame(parameter1, boundSqls.get(0).getParameterObject());
+    Assertions.assertSame(parameter3, boundSqls.get(1).getParameterObject());
+    Assertions.assertEquals("id", boundSqls.get(1).getParameterMappings().get(0).getProperty());
+    boundSqls = boundSqlGroups.get("SELECT * FROM names ");
+    Assertions.assertEquals(1, boundSqls.size());
+    Assertions.assertSame(parameter2, boundSqls.get(0).getParameterObject());
+  }
+
+  private static void addMappedStatement(Configuration configuration, String id, LanguageDriver languageDriver,
+      String script) {
+    configuration.addMappedStatement(new MappedStatement.Builder(configuration, id,
+        languageDriver.createSqlSource(configuration, script, Object.class), SqlCommandType.SELECT)
+        .lang(languageDriver).build());
+  }
+
 }
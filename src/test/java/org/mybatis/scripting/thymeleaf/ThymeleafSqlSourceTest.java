@@ -16,16 +16,25 @@
 package org.mybatis.scripting.thymeleaf;
 
 import java.io.Reader;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.stream.Stream;
 
+import org.apache.ibatis.builder.StaticSqlSource;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.type.JdbcType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -64,9 +73,13 @@ class ThymeleafSqlSourceTest {
             new InvalidNameParam(4));
         Assertions.fail();
       } catch (PersistenceException e) {
-        Assertions.assertEquals(
-            "Cannot get a value for property named 'id' in 'class org.mybatis.scripting.thymeleaf.integrationtest.mapper.InvalidNameParam'",
-            e.getCause().getCause().getMessage());
+        // A property value is resolved on demand during an expression evaluation (not copied in advance)
+        Throwable cause = e;
+        while (cause.getCause() != null) {
+          cause = cause.getCause();
+        }
+        Assertions.assertEquals(IllegalStateException.class, cause.getClass());
+        Assertions.assertEquals("invalid param", cause.getMessage());
       }
     }
   }
@@ -88,4 +101,337 @@ class ThymeleafSqlSourceTest {
     }
   }
 
+  @Test
+  void testParameterMappingCache() {
+    ThymeleafSqlSource sqlSource = createSqlSource(
+        "SELECT * FROM names WHERE 1 = 1 /*[# th:if='${id != null}']*/ AND id = /*[# mb:p='id']*/ 1 /*[/]*/ /*[/]*/",
+        16);
+    ParameterMappingCache cache = sqlSource.getParameterMappingCache();
+
+    BoundSql boundSql = sqlSource.getBoundSql(Map.of("id", 1));
+    Assertions.assertEquals("SELECT * FROM names WHERE 1 = 1  AND id = ? ", boundSql.getSql());
+    Assertions.assertEquals("id", boundSql.getParameterMappings().get(0).getProperty());
+    Assertions.assertEquals(0, cache.getHitCount());
+    Assertions.assertEquals(1, cache.getMissCount());
+
+    boundSql = sqlSource.getBoundSql(Map.of("id", 2));
+    Assertions.assertEquals("SELECT * FROM names WHERE 1 = 1  AND id = ? ", boundSql.getSql());
+    Assertions.assertEquals(Map.of("id", 2), boundSql.getParameterObject());
+    Assertions.assertEquals(1, cache.getHitCount());
+    Assertions.assertEquals(1, cache.getMissCount());
+
+    boundSql = sqlSource.getBoundSql(Map.of());
+    Assertions.assertEquals("SELECT * FROM names WHERE 1 = 1 ", boundSql.getSql());
+    Assertions.assertTrue(boundSql.getParameterMappings().isEmpty());
+    Assertions.assertEquals(1, cache.getHitCount());
+    Assertions.assertEquals(2, cache.getMissCount());
+
+    sqlSource.getBoundSql(Map.of("id", 3));
+    sqlSource.getBoundSql(Map.of());
+    Assertions.assertEquals(3, cache.getHitCount());
+    Assertions.assertEquals(2, cache.getMissCount());
+    Assertions.assertEquals(2, cache.size());
+  }
+
+  @Test
+  void testParameterMappingCacheWithDifferentBindVariableType() {
+    ThymeleafSqlSource sqlSource = createSqlSource(
+        "/*[# mb:bind='v=${value}' /]*/ SELECT * FROM names WHERE id = /*[# mb:p='v']*/ 1 /*[/]*/", 16);
+    ParameterMappingCache cache = sqlSource.getParameterMappingCache();
+
+    Assertions.assertEquals(Integer.class,
+        sqlSource.getBoundSql(Map.of("value", 1)).getParameterMappings().get(0).getJavaType());
+    Assertions.assertEquals(String.class,
+        sqlSource.getBoundSql(Map.of("value", "1")).getParameterMappings().get(0).getJavaType());
+    Assertions.assertEquals(String.class,
+        sqlSource.getBoundSql(Map.of("value", "2")).getParameterMappings().get(0).getJavaType());
+    Assertions.assertEquals(Integer.class,
+        sqlSource.getBoundSql(Map.of("value", 2)).getParameterMappings().get(0).getJavaType());
+
+    Assertions.assertEquals(1, cache.getHitCount());
+    Assertions.assertEquals(3, cache.getMissCount());
+    Assertions.assertEquals(1, cache.size());
+  }
+
+  @Test
+  void testParameterMappingCacheMaxSize() {
+    String template = "SELECT * FROM names WHERE 1 = 1 "
+        + "/*[# th:if='${id != null}']*/ AND id = /*[# mb:p='id']*/ 1 /*[/]*/ /*[/]*/";
+    {
+      ThymeleafSqlSource sqlSource = createSqlSource(template, 1);
+      ParameterMappingCache cache = sqlSource.getParameterMappingCache();
+      sqlSource.getBoundSql(Map.of("id", 1));
+      sqlSource.getBoundSql(Map.of());
+      sqlSource.getBoundSql(Map.of());
+      sqlSource.getBoundSql(Map.of("id", 2));
+      Assertions.assertEquals(1, cache.getHitCount());
+      Assertions.assertEquals(3, cache.getMissCount());
+      Assertions.assertEquals(1, cache.size());
+    }
+    {
+      ThymeleafSqlSource sqlSource = createSqlSource(template, 0);
+      ParameterMappingCache cache = sqlSource.getParameterMappingCache();
+      Assertions.assertEquals("SELECT * FROM names WHERE 1 = 1  AND id = ? ",
+          sqlSource.getBoundSql(Map.of("id", 1)).getSql());
+      sqlSource.getBoundSql(Map.of("id", 2));
+      Assertions.assertEquals(0, cache.getHitCount());
+      Assertions.assertEquals(0, cache.getMissCount());
+      Assertions.assertEquals(0, cache.size());
+    }
+  }
+
+  @Test
+  void testVariousParameterTypes() {
+    ThymeleafSqlSource sqlSource = createSqlSource(
+        "SELECT * FROM names WHERE firstName = /*[# mb:p='firstName']*/ 'Fred' /*[/]*/", 16);
+    Name name = new Name();
+    name.setFirstName("Fred");
+    for (Object parameter : List.of(name, Map.of("firstName", "Fred"), "Fred", name)) {
+      BoundSql boundSql = sqlSource.getBoundSql(parameter);
+      Assertions.assertEquals("SELECT * FROM names WHERE firstName = ?", boundSql.getSql());
+      Assertions.assertEquals("firstName", boundSql.getParameterMappings().get(0).getProperty());
+      Assertions.assertSame(parameter, boundSql.getParameterObject());
+    }
+  }
+
+  @Test
+  void testStreamParameter() {
+    String template = "SELECT * FROM names WHERE id IN (/*[# mb:p='ids,iterable=true']*/ 1 /*[/]*/)";
+    ThymeleafLanguageDriverConfig.SqlSourceConfig directBindingConfig = new ThymeleafLanguageDriverConfig.SqlSourceConfig();
+    directBindingConfig.setDirectBindingEnabled(true);
+    for (ThymeleafSqlSource sqlSource : List.of(createSqlSource(template, 16),
+        createSqlSource(template, directBindingConfig))) {
+      BoundSql boundSql = sqlSource.getBoundSql(Map.of("ids", Stream.of(1, 3)));
+      Assertions.assertEquals("SELECT * FROM names WHERE id IN (?, ?)", boundSql.getSql());
+      Assertions.assertEquals("ids_e0", boundSql.getParameterMappings().get(0).getProperty());
+      Assertions.assertEquals("ids_e1", boundSql.getParameterMappings().get(1).getProperty());
+      Assertions.assertEquals(1, boundSql.getAdditionalParameter("ids_e0"));
+      Assertions.assertEquals(3, boundSql.getAdditionalParameter("ids_e1"));
+    }
+  }
+
+  @Test
+  void testInClauseParameterPadding() {
+    String template = "SELECT * FROM names WHERE id IN (/*[# mb:p='ids,padding=true,jdbcType=INTEGER']*/ 1 /*[/]*/)";
+    ThymeleafLanguageDriverConfig.SqlSourceConfig directBindingConfig = new ThymeleafLanguageDriverConfig.SqlSourceConfig();
+    directBindingConfig.setDirectBindingEnabled(true);
+    for (ThymeleafSqlSource sqlSource : List.of(createSqlSource(template, 16),
+        createSqlSource(template, directBindingConfig))) {
+      BoundSql boundSql = sqlSource.getBoundSql(Map.of("ids", List.of(1, 3, 5)));
+      Assertions.assertEquals("SELECT * FROM names WHERE id IN (?, ?, ?, ?)", boundSql.getSql());
+      Assertions.assertEquals(4, boundSql.getParameterMappings().size());
+      Assertions.assertEquals("ids[2]", boundSql.getParameterMappings().get(3).getProperty());
+      Assertions.assertEquals(JdbcType.INTEGER, boundSql.getParameterMappings().get(3).getJdbcType());
+    }
+  }
+
+  @Test
+  void testDirectBinding() {
+    String template = "SELECT * FROM names WHERE 1 = 1"
+        + " /*[# th:if='${id != null}']*/ AND id = /*[# mb:p='id']*/ 1 /*[/]*/ /*[/]*/"
+        + " /*[# th:if='${name != null}']*/ AND firstName = /*[# mb:p='name.firstName,jdbcType=VARCHAR']*/ 'Fred' /*[/]*/ /*[/]*/"
+        + " /*[# th:if='${ids != null}']*/ AND id IN (/*[# mb:p='ids']*/ 1 /*[/]*/) /*[/]*/";
+    ThymeleafLanguageDriverConfig.SqlSourceConfig sqlSourceConfig = new ThymeleafLanguageDriverConfig.SqlSourceConfig();
+    sqlSourceConfig.setDirectBindingEnabled(true);
+    ThymeleafSqlSource directSqlSource = createSqlSource(template, sqlSourceConfig);
+    ThymeleafSqlSource sqlSource = createSqlSource(template, 16);
+    Assertions.assertTrue(directSqlSource.isDirectBinding());
+    Assertions.assertFalse(sqlSource.isDirectBinding());
+
+    Name name = new Name();
+    name.setFirstName("Fred");
+    Map<String, Object> parameter = Map.of("id", 1, "name", name, "ids", List.of(1, 3));
+
+    BoundSql expected = sqlSource.getBoundSql(parameter);
+    BoundSql actual = directSqlSource.getBoundSql(parameter);
+    Assertions.assertEquals("SELECT * FROM names WHERE 1 = 1  AND id = ?   AND firstName = ?   AND id IN (?, ?) ",
+        actual.getSql());
+    Assertions.assertEquals(expected.getSql(), actual.getSql());
+    Assertions.assertEquals(expected.getParameterMappings().size(), actual.getParameterMappings().size());
+    for (int i = 0; i < expected.getParameterMappings().size(); i++) {
+      ParameterMapping expectedMapping = expected.getParameterMappings().get(i);
+      ParameterMapping actualMapping = actual.getParameterMappings().get(i);
+      Assertions.assertEquals(expectedMapping.getProperty(), actualMapping.getProperty());
+      Assertions.assertEquals(expectedMapping.getJavaType(), actualMapping.getJavaType());
+      Assertions.assertEquals(expectedMapping.getJdbcType(), actualMapping.getJdbcType());
+      Assertions.assertEquals(expectedMapping.getTypeHandler().getClass(), actualMapping.getTypeHandler().getClass());
+    }
+    Assertions.assertEquals(JdbcType.VARCHAR, actual.getParameterMappings().get(1).getJdbcType());
+    Assertions.assertTrue(directSqlSource.isDirectBinding());
+
+    // parameter mappings are reused per rendered SQL variant and types of bind variables
+    ParameterMappingCache cache = directSqlSource.getParameterMappingCache();
+    Assertions.assertEquals(0, cache.getHitCount());
+    Assertions.assertEquals(1, cache.getMissCount());
+    Assertions.assertSame(actual.getParameterMappings(),
+        directSqlSource.getBoundSql(Map.of("id", 2, "name", name, "ids", List.of(2, 4))).getParameterMappings());
+    Assertions.assertEquals(1, cache.getHitCount());
+    Assertions.assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  void testDirectBindingParameterMappingCacheWithSameSql() {
+    String template = "SELECT * FROM names WHERE id = /*[# th:if='${useId}']*/ /*[# mb:p='id']*/ 1 /*[/]*/ /*[/]*/"
+        + "/*[# th:unless='${useId}']*/ /*[# mb:p='otherId,jdbcType=INTEGER']*/ 1 /*[/]*/ /*[/]*/";
+    ThymeleafLanguageDriverConfig.SqlSourceConfig sqlSourceConfig = new ThymeleafLanguageDriverConfig.SqlSourceConfig();
+    sqlSourceConfig.setDirectBindingEnabled(true);
+    ThymeleafSqlSource sqlSource = createSqlSource(template, sqlSourceConfig);
+
+    BoundSql boundSql = sqlSource.getBoundSql(Map.of("useId", true, "id", 1, "otherId", 2));
+    Assertions.assertEquals("id", boundSql.getParameterMappings().get(0).getProperty());
+    BoundSql otherBoundSql = sqlSource.getBoundSql(Map.of("useId", false, "id", 1, "otherId", 2));
+    // same SQL text, but different parameter bindings
+    Assertions.assertEquals(boundSql.getSql(), otherBoundSql.getSql());
+    Assertions.assertEquals("otherId", otherBoundSql.getParameterMappings().get(0).getProperty());
+    Assertions.assertEquals(JdbcType.INTEGER, otherBoundSql.getParameterMappings().get(0).getJdbcType());
+    Assertions.assertEquals(2, sqlSource.getParameterMappingCache().getMissCount());
+    Assertions.assertEquals(2, sqlSource.getParameterMappingCache().size());
+  }
+
+  @Test
+  void testDirectBindingFallbackWhenBindVariableExpressionIsRendered() {
+    ThymeleafLanguageDriverConfig.SqlSourceConfig sqlSourceConfig = new ThymeleafLanguageDriverConfig.SqlSourceConfig();
+    sqlSourceConfig.setDirectBindingEnabled(true);
+    ThymeleafSqlSource sqlSource = createSqlSource(
+        "SELECT * FROM names WHERE id = /*[# mb:p='id']*/ 1 /*[/]*/ AND firstName = [(${'#'})]{name}",
+        sqlSourceConfig);
+    Assertions.assertTrue(sqlSource.isDirectBinding());
+
+    BoundSql boundSql = sqlSource.getBoundSql(Map.of("id", 1, "name", "Fred"));
+    Assertions.assertEquals("SELECT * FROM names WHERE id = ? AND firstName = ?", boundSql.getSql());
+    Assertions.assertEquals("id", boundSql.getParameterMappings().get(0).getProperty());
+    Assertions.assertEquals("name", boundSql.getParameterMappings().get(1).getProperty());
+    Assertions.assertFalse(sqlSource.isDirectBinding());
+
+    sqlSource = createSqlSource("SELECT * FROM names WHERE id = #{id}", sqlSourceConfig);
+    Assertions.assertFalse(sqlSource.isDirectBinding());
+  }
+
+  @Test
+  void testStaticSqlSourceForStraightLineTemplate() {
+    String template = "SELECT * FROM names WHERE id = /*[# mb:p='id']*/ 1 /*[/]*/"
+        + " AND first_name = /*[# mb:p='firstName']*/ 'Taro' /*[/]*/";
+    ThymeleafSqlSource sqlSource = createSqlSource(template, new ThymeleafLanguageDriverConfig.SqlSourceConfig());
+    ThymeleafLanguageDriverConfig.SqlSourceConfig sqlSourceConfig = new ThymeleafLanguageDriverConfig.SqlSourceConfig();
+    sqlSourceConfig.setStaticSqlSourceEnabled(false);
+    ThymeleafSqlSource dynamicSqlSource = createSqlSource(template, sqlSourceConfig);
+    Assertions.assertNotNull(sqlSource.getStaticSqlSource());
+    Assertions.assertFalse(sqlSource.isStatic());
+    Assertions.assertNull(dynamicSqlSource.getStaticSqlSource());
+
+    Map<String, Object> parameter = Map.of("id", 1, "firstName", "Thymeleaf");
+    BoundSql boundSql = sqlSource.getBoundSql(parameter);
+    BoundSql expectedBoundSql = dynamicSqlSource.getBoundSql(parameter);
+    Assertions.assertEquals(expectedBoundSql.getSql(), boundSql.getSql());
+    Assertions.assertEquals(2, boundSql.getParameterMappings().size());
+    Assertions.assertEquals("id", boundSql.getParameterMappings().get(0).getProperty());
+    Assertions.assertEquals("firstName", boundSql.getParameterMappings().get(1).getProperty());
+  }
+
+  @Test
+  void testStaticSqlSourceFallbackWhenCollectionIsSpecified() {
+    String template = "SELECT * FROM names WHERE id IN (/*[# mb:p='ids']*/ 1 /*[/]*/)";
+    ThymeleafSqlSource sqlSource = createSqlSource(template, new ThymeleafLanguageDriverConfig.SqlSourceConfig());
+    Assertions.assertNotNull(sqlSource.getStaticSqlSource());
+
+    BoundSql boundSql = sqlSource.getBoundSql(Map.of("ids", 1));
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (?)", boundSql.getSql());
+    Assertions.assertEquals("ids", boundSql.getParameterMappings().get(0).getProperty());
+
+    boundSql = sqlSource.getBoundSql(Map.of("ids", List.of(1, 2)));
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (?, ?)", boundSql.getSql());
+    Assertions.assertEquals("ids[0]", boundSql.getParameterMappings().get(0).getProperty());
+    Assertions.assertEquals("ids[1]", boundSql.getParameterMappings().get(1).getProperty());
+  }
+
+  @Test
+  void testStaticSqlSourceFallbackPerParameterType() {
+    String template = "SELECT * FROM names WHERE id IN (/*[# mb:p='ids']*/ 1 /*[/]*/)";
+    ThymeleafSqlSource sqlSource = createSqlSource(template, new ThymeleafLanguageDriverConfig.SqlSourceConfig());
+
+    for (int i = 0; i < 2; i++) {
+      BoundSql boundSql = sqlSource.getBoundSql(new ListIdsParam(List.of(1, 2)));
+      Assertions.assertEquals("SELECT * FROM names WHERE id IN (?, ?)", boundSql.getSql());
+      Assertions.assertEquals("ids[1]", boundSql.getParameterMappings().get(1).getProperty());
+
+      boundSql = sqlSource.getBoundSql(new ObjectIdsParam(1));
+      Assertions.assertEquals("SELECT * FROM names WHERE id IN (?)", boundSql.getSql());
+      Assertions.assertEquals("ids", boundSql.getParameterMappings().get(0).getProperty());
+
+      boundSql = sqlSource.getBoundSql(new ObjectIdsParam(List.of(1, 2)));
+      Assertions.assertEquals("SELECT * FROM names WHERE id IN (?, ?)", boundSql.getSql());
+      Assertions.assertEquals("ids[1]", boundSql.getParameterMappings().get(1).getProperty());
+
+      // An iterable that is not a collection is bound as single value by default
+      boundSql = sqlSource.getBoundSql(new ObjectIdsParam(Path.of("ids")));
+      Assertions.assertSame(sqlSource.getStaticSqlSource().getBoundSql(null).getSql(), boundSql.getSql());
+      Assertions.assertEquals("ids", boundSql.getParameterMappings().get(0).getProperty());
+    }
+  }
+
+  @Test
+  void testStaticSqlSourceIsNotUsedForDynamicTemplate() {
+    Assertions.assertNull(createSqlSource("SELECT * FROM names /*[# th:if='${id != null}']*/ WHERE id = 1 /*[/]*/",
+        new ThymeleafLanguageDriverConfig.SqlSourceConfig()).getStaticSqlSource());
+    Assertions.assertNull(createSqlSource("SELECT * FROM names WHERE id = /*[# mb:p='id, padding=true']*/ 1 /*[/]*/",
+        new ThymeleafLanguageDriverConfig.SqlSourceConfig()).getStaticSqlSource());
+    Assertions.assertNull(createSqlSource("SELECT * FROM names WHERE id = /*[# mb:p='${key}']*/ 1 /*[/]*/",
+        new ThymeleafLanguageDriverConfig.SqlSourceConfig()).getStaticSqlSource());
+    Assertions.assertNull(createSqlSource("SELECT * FROM names WHERE id = [(${id})]",
+        new ThymeleafLanguageDriverConfig.SqlSourceConfig()).getStaticSqlSource());
+  }
+
+  @Test
+  void testStaticSqlSourceForTemplateWithoutTemplateSyntax() {
+    String template = "SELECT * FROM names WHERE id = #{id}";
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    SqlSource sqlSource = new ThymeleafLanguageDriver().createSqlSource(configuration, template, Integer.class);
+    Assertions.assertTrue(sqlSource instanceof StaticSqlSource);
+    Assertions.assertEquals("SELECT * FROM names WHERE id = ?", sqlSource.getBoundSql(1).getSql());
+
+    sqlSource = new ThymeleafLanguageDriver(
+        ThymeleafLanguageDriverConfig.newInstance(c -> c.getSqlSource().setStaticSqlSourceEnabled(false)))
+        .createSqlSource(configuration, template, Integer.class);
+    Assertions.assertTrue(sqlSource instanceof ThymeleafSqlSource);
+    Assertions.assertEquals("SELECT * FROM names WHERE id = ?", sqlSource.getBoundSql(1).getSql());
+  }
+
+  private ThymeleafSqlSource createSqlSource(String template, int parameterMappingCacheSize) {
+    ThymeleafLanguageDriverConfig.SqlSourceConfig sqlSourceConfig = new ThymeleafLanguageDriverConfig.SqlSourceConfig();
+    sqlSourceConfig.setParameterMappingCacheSize(parameterMappingCacheSize);
+    return createSqlSource(template, sqlSourceConfig);
+  }
+
+  private ThymeleafSqlSource createSqlSource(String template,
+      ThymeleafLanguageDriverConfig.SqlSourceConfig sqlSourceConfig) {
+    SqlGenerator sqlGenerator = new SqlGenerator(new SqlGeneratorConfig());
+    sqlGenerator.setContextFactory(new ThymeleafSqlSource.ContextFactory());
+    return new ThymeleafSqlSource(sqlSessionFactory.getConfiguration(), sqlGenerator, template, null,
+        sqlSourceConfig);
+  }
+
+  public static class ListIdsParam {
+    private final List<Integer> ids;
+
+    ListIdsParam(List<Integer> ids) {
+      this.ids = ids;
+    }
+
+    public List<Integer> getIds() {
+      return ids;
+    }
+  }
+
+  public static class ObjectIdsParam {
+    private final Object ids;
+
+    ObjectIdsParam(Object ids) {
+      this.ids = ids;
+    }
+
+    public Object getIds() {
+      return ids;
+    }
+  }
+
 }
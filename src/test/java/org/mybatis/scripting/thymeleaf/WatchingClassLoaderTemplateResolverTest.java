@@ -0,0 +1,123 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.AlwaysValidCacheEntryValidity;
+import org.thymeleaf.cache.ICacheEntryValidity;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+
+class WatchingClassLoaderTemplateResolverTest {
+
+  @TempDir
+  Path baseDir;
+
+  private URLClassLoader classLoader;
+  private WatchingClassLoaderTemplateResolver templateResolver;
+  private TemplateEngine templateEngine;
+
+  @BeforeEach
+  void setup() throws IOException {
+    classLoader = new URLClassLoader(new URL[] { baseDir.toUri().toURL() }, null);
+    templateResolver = new WatchingClassLoaderTemplateResolver(classLoader);
+    templateResolver.setTemplateMode(TemplateMode.TEXT);
+    templateResolver.setResolvablePatterns(Set.of("*.sql"));
+    templateEngine = new TemplateEngine();
+    templateEngine.addTemplateResolver(templateResolver);
+    templateEngine.addDialect(new MyBatisDialect());
+    Files.createDirectories(baseDir.resolve("sql"));
+  }
+
+  @AfterEach
+  void cleanup() throws IOException {
+    templateResolver.close();
+    classLoader.close();
+  }
+
+  @Test
+  void invalidateChangedTemplateOnly() throws Exception {
+    Path changing = write("sql/changing.sql", "SELECT 1");
+    write("sql/unchanged.sql", "SELECT 2");
+    SqlTemplate sqlTemplate = new SqlGenerator(templateEngine).compile("sql/changing.sql");
+
+    Assertions.assertEquals("SELECT 1", sqlTemplate.render(null));
+    Assertions.assertEquals("SELECT 2", templateEngine.process("sql/unchanged.sql", new Context()));
+    Assertions.assertTrue(resolveValidity("sql/changing.sql").isCacheStillValid());
+    Assertions.assertNotSame(AlwaysValidCacheEntryValidity.INSTANCE, resolveValidity("sql/changing.sql"));
+
+    Files.write(changing, "SELECT 3".getBytes(StandardCharsets.UTF_8));
+
+    Assertions.assertTrue(await(() -> "SELECT 3".equals(sqlTemplate.render(null))));
+    Assertions.assertEquals("SELECT 3", templateEngine.process("sql/changing.sql", new Context()));
+    Assertions.assertTrue(resolveValidity("sql/unchanged.sql").isCacheStillValid());
+    Assertions.assertSame(resolveValidity("sql/unchanged.sql"), resolveValidity("sql/unchanged.sql"));
+  }
+
+  @Test
+  void notWatchWhenCacheTtlIsSpecified() throws Exception {
+    write("sql/select.sql", "SELECT 1");
+    templateResolver.setCacheTTLMs(60000L);
+
+    Assertions.assertEquals("SELECT 1", templateEngine.process("sql/select.sql", new Context()));
+    Assertions.assertEquals("org.thymeleaf.cache.TTLCacheEntryValidity",
+        resolveValidity("sql/select.sql").getClass().getName());
+  }
+
+  @Test
+  void notWatchAfterClose() throws Exception {
+    write("sql/select.sql", "SELECT 1");
+    templateResolver.close();
+
+    Assertions.assertEquals("SELECT 1", templateEngine.process("sql/select.sql", new Context()));
+    Assertions.assertSame(AlwaysValidCacheEntryValidity.INSTANCE, resolveValidity("sql/select.sql"));
+  }
+
+  private ICacheEntryValidity resolveValidity(String template) {
+    return templateResolver.resolveTemplate(templateEngine.getConfiguration(), null, template, null).getValidity();
+  }
+
+  private Path write(String path, String content) throws IOException {
+    return Files.write(baseDir.resolve(path), content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static boolean await(BooleanSupplier condition) throws InterruptedException {
+    // The WatchService of some platforms (e.g. macOS) detects changes by polling
+    long deadline = System.currentTimeMillis() + 30000;
+    while (System.currentTimeMillis() < deadline) {
+      if (condition.getAsBoolean()) {
+        return true;
+      }
+      Thread.sleep(50);
+    }
+    return false;
+  }
+
+}
@@ -20,7 +20,9 @@ import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.jdbc.ScriptRunner;
@@ -36,12 +38,14 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mybatis.scripting.thymeleaf.ThymeleafLanguageDriver;
+import org.mybatis.scripting.thymeleaf.ThymeleafLanguageDriverConfig;
 import org.mybatis.scripting.thymeleaf.integrationtest.domain.Mail;
 import org.mybatis.scripting.thymeleaf.integrationtest.domain.Name;
 import org.mybatis.scripting.thymeleaf.integrationtest.domain.Person;
 import org.mybatis.scripting.thymeleaf.integrationtest.mapper.NameMapper;
 import org.mybatis.scripting.thymeleaf.integrationtest.mapper.NameParam;
 import org.mybatis.scripting.thymeleaf.integrationtest.mapper.PersonMapper;
+import org.mybatis.scripting.thymeleaf.support.BulkParameters;
 
 class AnnotationDrivenMapperTest {
   private static SqlSessionFactory sqlSessionFactory;
@@ -121,6 +125,25 @@ class AnnotationDrivenMapperTest {
 
   }
 
+  @Test
+  void testRowValueCollectionParam() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      NameMapper mapper = sqlSession.getMapper(NameMapper.class);
+      List<Name> names = mapper.findByFullNames(
+          Arrays.asList(newName("Wilma", "Flintstone"), newName("Barney", "Rubble"), newName("Barney", "Flintstone")));
+      Assertions.assertEquals(2, names.size());
+      Assertions.assertEquals(2, names.get(0).getId());
+      Assertions.assertEquals(4, names.get(1).getId());
+    }
+  }
+
+  private static Name newName(String firstName, String lastName) {
+    Name name = new Name();
+    name.setFirstName(firstName);
+    name.setLastName(lastName);
+    return name;
+  }
+
   @Test
   void testListParamWithoutParamAnnotation() {
     try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
@@ -236,6 +259,57 @@ class AnnotationDrivenMapperTest {
     }
   }
 
+  @Test
+  void testInsertByBulkUsingRowValues() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      NameMapper mapper = sqlSession.getMapper(NameMapper.class);
+      List<Name> names = new ArrayList<>();
+      for (int i = 1; i <= 5; i++) {
+        names.add(newName("Thymeleaf10" + i, "MyBatis10" + i));
+      }
+
+      List<List<Name>> chunks = BulkParameters.split(names, 2, 4);
+      Assertions.assertEquals(3, chunks.size());
+      chunks.forEach(mapper::insertByBulkUsingRowValues);
+
+      int[] ids = names.stream().mapToInt(Name::getId).toArray();
+      List<Name> loadedNames = mapper.findByIds(ids);
+      Assertions.assertEquals(5, loadedNames.size());
+      for (int i = 0; i < 5; i++) {
+        Assertions.assertEquals(names.get(i).getFirstName(), loadedNames.get(i).getFirstName());
+        Assertions.assertEquals(names.get(i).getLastName(), loadedNames.get(i).getLastName());
+      }
+    }
+  }
+
+  @Test
+  void testInsertByBulkUsingRowValuesWithInClauseParameterPadding() {
+    Configuration configuration = new Configuration(sqlSessionFactory.getConfiguration().getEnvironment());
+    configuration.setMapUnderscoreToCamelCase(true);
+    configuration.setUseColumnLabel(true);
+    configuration.getLanguageRegistry().register(new ThymeleafLanguageDriver(
+        ThymeleafLanguageDriverConfig.newInstance(c -> c.getDialect().setInClauseParameterPadding(true))));
+    configuration.setDefaultScriptingLanguage(ThymeleafLanguageDriver.class);
+    configuration.addMapper(NameMapper.class);
+    SqlSessionFactory paddingSqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    try (SqlSession sqlSession = paddingSqlSessionFactory.openSession()) {
+      NameMapper mapper = sqlSession.getMapper(NameMapper.class);
+      List<Name> names = new ArrayList<>();
+      for (int i = 1; i <= 3; i++) {
+        names.add(newName("Thymeleaf20" + i, "MyBatis20" + i));
+      }
+
+      mapper.insertByBulkUsingRowValues(names);
+
+      // 3 rows are not padded to 4 rows (the last row is not inserted twice)
+      List<String> firstNames = names.stream().map(Name::getFirstName).collect(Collectors.toList());
+      Assertions.assertEquals(3, mapper.findByFirstNames(firstNames).size());
+      // the padding is applied to an IN clause
+      Assertions.assertEquals(4, configuration.getMappedStatement(NameMapper.class.getName() + ".findByFirstNames")
+          .getBoundSql(Map.of("firstNames", firstNames)).getParameterMappings().size());
+    }
+  }
+
   @Test
   void testUpdate() {
     try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
@@ -18,6 +18,7 @@ package org.mybatis.scripting.thymeleaf.integrationtest;
 import java.io.Reader;
 import java.sql.Connection;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -93,6 +94,28 @@ class SqlSessionTest {
     }
   }
 
+  @Test
+  void testListParamUsingArray() {
+    for (SqlSessionFactory factory : Arrays.asList(sqlSessionFactory, sqlSessionFactoryForH2)) {
+      try (SqlSession sqlSession = factory.openSession()) {
+        List<Name> names = sqlSession.selectList(
+            "org.mybatis.scripting.thymeleaf.integrationtest.mapper.XmlNameSqlSessionMapper.findByIdsUsingArray",
+            Collections.singletonMap("ids", Arrays.asList(1, 3, 4)));
+        Assertions.assertEquals(3, names.size());
+        Assertions.assertEquals(1, names.get(0).getId());
+        Assertions.assertEquals(3, names.get(1).getId());
+        Assertions.assertEquals(4, names.get(2).getId());
+
+        names = sqlSession.selectList(
+            "org.mybatis.scripting.thymeleaf.integrationtest.mapper.XmlNameSqlSessionMapper.findByIdsUsingArray",
+            Collections.singletonMap("ids", new int[] { 2, 5 }));
+        Assertions.assertEquals(2, names.size());
+        Assertions.assertEquals(2, names.get(0).getId());
+        Assertions.assertEquals(5, names.get(1).getId());
+      }
+    }
+  }
+
   @Test
   void testParamObjectUsing_parameter() {
     try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
@@ -224,9 +247,9 @@ class SqlSessionTest {
           param);
       Assertions.fail();
     } catch (PersistenceException e) {
-      Assertions.assertTrue(e.getCause().getCause().getMessage().startsWith(
+      Assertions.assertTrue(e.getCause().getMessage().startsWith(
           "Variable name expression evaluated as null or empty: \"${''}\" (template: \"/*[# mb:bind=\"${''}=1\" /]*/"));
-      Assertions.assertTrue(e.getCause().getCause().getMessage().endsWith("SELECT * FROM names\" - line 1, col 6)"));
+      Assertions.assertTrue(e.getCause().getMessage().endsWith("SELECT * FROM names\" - line 1, col 6)"));
     }
   }
 
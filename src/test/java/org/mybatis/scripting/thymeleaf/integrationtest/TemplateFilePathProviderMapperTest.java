@@ -16,7 +16,11 @@
 package org.mybatis.scripting.thymeleaf.integrationtest;
 
 import java.io.Reader;
+import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.jdbc.ScriptRunner;
@@ -38,10 +42,15 @@ import org.mybatis.scripting.thymeleaf.ThymeleafLanguageDriverConfig;
 import org.mybatis.scripting.thymeleaf.integrationtest.domain.Name;
 import org.mybatis.scripting.thymeleaf.integrationtest.mapper.TemplateFilePathProviderMapper;
 import org.mybatis.scripting.thymeleaf.support.TemplateFilePathProvider;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.ICache;
+import org.thymeleaf.cache.TemplateCacheKey;
+import org.thymeleaf.engine.TemplateModel;
 
 @DisabledIfSystemProperty(named = "mybatis.version", matches = "3\\.4\\..*|3\\.5\\.0")
 class TemplateFilePathProviderMapperTest {
   private static SqlSessionFactory sqlSessionFactory;
+  private static TemplateEngine templateEngine;
 
   @BeforeAll
   @AfterAll
@@ -72,11 +81,12 @@ class TemplateFilePathProviderMapperTest {
 
     Configuration configuration = new Configuration(environment);
     configuration.setMapUnderscoreToCamelCase(true);
-    configuration.getLanguageRegistry()
-        .register(new ThymeleafLanguageDriver(ThymeleafLanguageDriverConfig.newInstance(c -> {
-          c.getTemplateFile().getPathProvider().setPrefix("sql/");
-          c.getTemplateFile().getPathProvider().setIncludesPackagePath(false);
-        })));
+    ThymeleafLanguageDriverConfig config = ThymeleafLanguageDriverConfig.newInstance(c -> {
+      c.getTemplateFile().getPathProvider().setPrefix("sql/");
+      c.getTemplateFile().getPathProvider().setIncludesPackagePath(false);
+    });
+    config.setCustomizerInstance(engine -> templateEngine = engine);
+    configuration.getLanguageRegistry().register(new ThymeleafLanguageDriver(config));
     configuration.setDefaultScriptingLanguage(ThymeleafLanguageDriver.class);
 
     configuration.addMapper(TemplateFilePathProviderMapper.class);
@@ -134,4 +144,52 @@ class TemplateFilePathProviderMapperTest {
     }
   }
 
+  @Test
+  void testCompileTemplates() {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    ThymeleafLanguageDriver languageDriver = (ThymeleafLanguageDriver) configuration.getLanguageRegistry()
+        .getDriver(ThymeleafLanguageDriver.class);
+
+    ThymeleafLanguageDriver.CompilationReport report = languageDriver.compileTemplates(configuration);
+
+    Assertions.assertTrue(report.isSuccessful());
+    String namespace = TemplateFilePathProviderMapper.class.getName();
+    Assertions.assertEquals(
+        Arrays.asList(namespace + ".delete", namespace + ".findById", namespace + ".insert", namespace + ".update"),
+        new ArrayList<>(report.getCompiledStatements().keySet()));
+    Assertions.assertTrue(report.getSkippedStatements().isEmpty());
+
+    // Compiled templates are shared via the template cache regardless of parameter type
+    ICache<TemplateCacheKey, TemplateModel> templateCache = templateEngine.getConfiguration().getCacheManager()
+        .getTemplateCache();
+    List<TemplateModel> compiledTemplates = new ArrayList<>();
+    for (Method method : TemplateFilePathProviderMapper.class.getMethods()) {
+      String path = TemplateFilePathProvider.providePath(TemplateFilePathProviderMapper.class, method, null);
+      TemplateModel compiledTemplate = templateCache.get(new TemplateCacheKey(null, path, null, 0, 0, null, null));
+      Assertions.assertNotNull(compiledTemplate, path);
+      compiledTemplates.add(compiledTemplate);
+    }
+
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      TemplateFilePathProviderMapper mapper = sqlSession.getMapper(TemplateFilePathProviderMapper.class);
+      Name name = new SubName();
+      name.setFirstName("Thymeleaf");
+      name.setLastName("MyBatis");
+      mapper.insert(name);
+      mapper.update(name);
+      mapper.delete(name);
+      Assertions.assertNull(mapper.findById(Integer.MAX_VALUE));
+    }
+
+    int index = 0;
+    for (Method method : TemplateFilePathProviderMapper.class.getMethods()) {
+      String path = TemplateFilePathProvider.providePath(TemplateFilePathProviderMapper.class, method, null);
+      Assertions.assertSame(compiledTemplates.get(index++),
+          templateCache.get(new TemplateCacheKey(null, path, null, 0, 0, null, null)), path);
+    }
+  }
+
+  public static class SubName extends Name {
+  }
+
 }
@@ -0,0 +1,160 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf.integrationtest;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.TransactionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mybatis.scripting.thymeleaf.ThymeleafLanguageDriver;
+import org.mybatis.scripting.thymeleaf.ThymeleafLanguageDriverConfig;
+import org.mybatis.scripting.thymeleaf.integrationtest.domain.Name;
+import org.mybatis.scripting.thymeleaf.integrationtest.mapper.TemporaryTableNameMapper;
+
+class TemporaryTableMapperTest {
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    Class.forName("org.hsqldb.jdbcDriver");
+    JDBCDataSource dataSource = new JDBCDataSource();
+    dataSource.setUrl("jdbc:hsqldb:mem:db4");
+    dataSource.setUser("sa");
+    dataSource.setPassword("");
+
+    try (Connection conn = dataSource.getConnection()) {
+      try (Reader reader = Resources.getResourceAsReader("create-db.sql")) {
+        ScriptRunner runner = new ScriptRunner(conn);
+        runner.setLogWriter(null);
+        runner.setErrorLogWriter(null);
+        runner.runScript(reader);
+      }
+      try (Statement statement = conn.createStatement()) {
+        statement.execute("drop table if exists tmp_ids");
+        statement.execute("drop table if exists tmp_names");
+        statement.execute("create global temporary table tmp_ids (id int) on commit preserve rows");
+        statement.execute("create global temporary table tmp_names (name varchar(20)) on commit preserve rows");
+      }
+      conn.commit();
+    }
+
+    TransactionFactory transactionFactory = new JdbcTransactionFactory();
+    Environment environment = new Environment("development", transactionFactory, dataSource);
+
+    Configuration configuration = new Configuration(environment);
+    configuration.setMapUnderscoreToCamelCase(true);
+    configuration.getLanguageRegistry().register(new ThymeleafLanguageDriver(
+        ThymeleafLanguageDriverConfig.newInstance(c -> c.getSqlSource().setTemporaryTableThreshold(3))));
+    configuration.setDefaultScriptingLanguage(ThymeleafLanguageDriver.class);
+
+    configuration.addMapper(TemporaryTableNameMapper.class);
+    sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+  }
+
+  @Test
+  void testOverThreshold() {
+    List<Integer> ids = IntStream.rangeClosed(2, 2000).boxed().collect(Collectors.toList());
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("ids", ids);
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (SELECT id FROM tmp_ids) ORDER BY id",
+        sqlSessionFactory.getConfiguration()
+            .getMappedStatement(TemporaryTableNameMapper.class.getName() + ".findByIds").getBoundSql(parameter)
+            .getSql());
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      TemporaryTableNameMapper mapper = sqlSession.getMapper(TemporaryTableNameMapper.class);
+      List<Name> names = mapper.findByIds(ids);
+      Assertions.assertEquals(6, names.size());
+      Assertions.assertEquals(2, names.get(0).getId());
+      Assertions.assertEquals(7, names.get(5).getId());
+      // rows inserted by previous execution are deleted
+      names = mapper.findByIds(Arrays.asList(4, 5, 6, 100));
+      Assertions.assertEquals(3, names.size());
+      Assertions.assertEquals(4, names.get(0).getId());
+      Assertions.assertEquals(6, names.get(2).getId());
+    }
+  }
+
+  @Test
+  void testLocalCachePerElements() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      TemporaryTableNameMapper mapper = sqlSession.getMapper(TemporaryTableNameMapper.class);
+      List<Integer> ids = new ArrayList<>(Arrays.asList(1, 2, 3, 4));
+      List<Name> names = mapper.findByIds(ids);
+      Assertions.assertEquals(4, names.size());
+      // same elements hit the local cache
+      Assertions.assertSame(names, mapper.findByIds(Arrays.asList(1, 2, 3, 4)));
+      // other elements (including modified list) does not hit the local cache
+      ids.add(5);
+      names = mapper.findByIds(ids);
+      Assertions.assertEquals(5, names.size());
+      Assertions.assertEquals(5, names.get(4).getId());
+      names = mapper.findByIds(Arrays.asList(5, 6, 7, 100));
+      Assertions.assertEquals(3, names.size());
+      Assertions.assertEquals(5, names.get(0).getId());
+    }
+  }
+
+  @Test
+  void testNotOverThreshold() {
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("ids", Arrays.asList(1, 3, 5));
+    Assertions.assertEquals("SELECT * FROM names WHERE id IN (?, ?, ?) ORDER BY id",
+        sqlSessionFactory.getConfiguration()
+            .getMappedStatement(TemporaryTableNameMapper.class.getName() + ".findByIds").getBoundSql(parameter)
+            .getSql());
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      TemporaryTableNameMapper mapper = sqlSession.getMapper(TemporaryTableNameMapper.class);
+      List<Name> names = mapper.findByIds(Arrays.asList(1, 3, 5));
+      Assertions.assertEquals(3, names.size());
+      Assertions.assertEquals(1, names.get(0).getId());
+      Assertions.assertEquals(3, names.get(1).getId());
+      Assertions.assertEquals(5, names.get(2).getId());
+    }
+  }
+
+  @Test
+  void testMultipleTemporaryTables() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      TemporaryTableNameMapper mapper = sqlSession.getMapper(TemporaryTableNameMapper.class);
+      List<Name> names = mapper.findByIdsAndLastNames(new int[] { 1, 2, 3, 4, 5 },
+          Arrays.asList("Rubble", "Abble", "Ab_le", "Unknown"));
+      Assertions.assertEquals(2, names.size());
+      Assertions.assertEquals(4, names.get(0).getId());
+      Assertions.assertEquals(5, names.get(1).getId());
+    }
+  }
+
+}
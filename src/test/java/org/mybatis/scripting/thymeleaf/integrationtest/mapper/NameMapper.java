@@ -30,6 +30,11 @@ public interface NameMapper {
   @Insert("sql/NameMapper/insertByBulk.sql")
   void insertByBulk(List<Name> names);
 
+  @Options(useGeneratedKeys = true, keyProperty = "id")
+  @Insert({ "INSERT INTO names (firstName, lastName) VALUES",
+      "/*[# mb:p='list,properties=firstName|lastName']*/ ('Taro', 'Yamada') /*[/]*/" })
+  void insertByBulkUsingRowValues(List<Name> names);
+
   @Update("sql/NameMapper/update.sql")
   void update(Name name);
 
@@ -48,6 +53,9 @@ public interface NameMapper {
   @Select("sql/NameMapper/findByFirstNames.sql")
   Name findByFirstNamesWithNotCollectionType(@Param("firstNames") String firstNames);
 
+  @Select("sql/NameMapper/findByFullNames.sql")
+  List<Name> findByFullNames(@Param("names") List<Name> names);
+
   @Select("sql/NameMapper/findByIdsWithoutParamAnnotation.sql")
   List<Name> findByIdsWithoutParamAnnotation(List<Integer> ids);
 
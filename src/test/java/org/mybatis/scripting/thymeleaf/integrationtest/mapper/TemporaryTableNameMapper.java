@@ -0,0 +1,33 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf.integrationtest.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.mybatis.scripting.thymeleaf.integrationtest.domain.Name;
+
+public interface TemporaryTableNameMapper {
+
+  @Select("SELECT * FROM names WHERE id IN (/*[# mb:p='ids,tempTable=tmp_ids.id']*/ 1 /*[/]*/) ORDER BY id")
+  List<Name> findByIds(@Param("ids") List<Integer> ids);
+
+  @Select("SELECT * FROM names WHERE id IN (/*[# mb:p='ids,tempTable=tmp_ids.id']*/ 1 /*[/]*/)"
+      + " AND lastName IN (/*[# mb:p='lastNames,tempTable=tmp_names.name']*/ 'Flintstone' /*[/]*/) ORDER BY id")
+  List<Name> findByIdsAndLastNames(@Param("ids") int[] ids, @Param("lastNames") List<String> lastNames);
+
+}
@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2018-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.scripting.thymeleaf.support;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BulkParametersTest {
+
+  @Test
+  void split() {
+    List<Integer> elements = Arrays.asList(1, 2, 3, 4, 5, 6, 7);
+    List<List<Integer>> chunks = BulkParameters.split(elements, 2, 7);
+    Assertions.assertEquals(3, chunks.size());
+    Assertions.assertEquals(Arrays.asList(1, 2, 3), chunks.get(0));
+    Assertions.assertEquals(Arrays.asList(4, 5, 6), chunks.get(1));
+    Assertions.assertEquals(Collections.singletonList(7), chunks.get(2));
+  }
+
+  @Test
+  void splitWithinLimit() {
+    List<Integer> elements = Arrays.asList(1, 2, 3);
+    List<List<Integer>> chunks = BulkParameters.split(elements, 2, 6);
+    Assertions.assertEquals(1, chunks.size());
+    Assertions.assertSame(elements, chunks.get(0));
+    Assertions.assertTrue(BulkParameters.split(Collections.emptyList(), 2, 6).isEmpty());
+  }
+
+  @Test
+  void splitWithInvalidArguments() {
+    List<Integer> elements = Arrays.asList(1, 2, 3);
+    {
+      IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+          () -> BulkParameters.split(elements, 0, 6));
+      Assertions.assertEquals("The bindVariablesPerElement should be greater than zero. value=0", e.getMessage());
+    }
+    {
+      IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+          () -> BulkParameters.split(elements, 3, 2));
+      Assertions.assertEquals(
+          "The bindVariableLimit should be greater than or equal to bindVariablesPerElement."
+              + " bindVariableLimit=2, bindVariablesPerElement=3",
+          e.getMessage());
+    }
+  }
+
+}
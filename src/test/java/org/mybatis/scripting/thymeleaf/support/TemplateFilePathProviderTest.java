@@ -179,6 +179,61 @@ class TemplateFilePathProviderTest {
 
   }
 
+  @Test
+  void indexEnabled() {
+    TemplateFilePathProvider.setLanguageDriverConfig(
+        ThymeleafLanguageDriverConfig.newInstance(c -> c.getTemplateFile().getPathProvider().setIndexEnabled(true)));
+    Assertions.assertEquals("org/mybatis/scripting/thymeleaf/support/TestMapper/TestMapper-update-h2.sql",
+        TemplateFilePathProvider.providePath(TestMapper.class, extractMethod(TestMapper.class, "update"), "h2"));
+    Assertions.assertEquals("org/mybatis/scripting/thymeleaf/support/TestMapper/TestMapper-delete.sql",
+        TemplateFilePathProvider.providePath(TestMapper.class, extractMethod(TestMapper.class, "delete"), "h2"));
+    Assertions.assertEquals("org/mybatis/scripting/thymeleaf/support/BaseMapper/BaseMapper-insert-h2.sql",
+        TemplateFilePathProvider.providePath(TestMapper.class, extractMethod(TestMapper.class, "insert"), "h2"));
+    Assertions.assertEquals("org/mybatis/scripting/thymeleaf/support/BaseMapper/BaseMapper-count.sql",
+        TemplateFilePathProvider.providePath(TestMapper.class, extractMethod(TestMapper.class, "count"), "h2"));
+    Assertions.assertThrows(IllegalStateException.class, () -> TemplateFilePathProvider
+        .providePath(TestMapper.class, extractMethod(TestMapper.class, "selectOne"), "h2"));
+  }
+
+  @Test
+  void indexEnabledWithPrefix() {
+    TemplateFilePathProvider.setLanguageDriverConfig(ThymeleafLanguageDriverConfig.newInstance(c -> {
+      c.getTemplateFile().setBaseDir("org/mybatis/scripting/thymeleaf");
+      c.getTemplateFile().getPathProvider().setPrefix("support/sql/");
+      c.getTemplateFile().getPathProvider().setIncludesPackagePath(false);
+      c.getTemplateFile().getPathProvider().setSeparateDirectoryPerMapper(false);
+      c.getTemplateFile().getPathProvider().setIndexEnabled(true);
+    }));
+    Assertions.assertEquals("support/sql/TestMapper-selectAllDesc.sql", TemplateFilePathProvider
+        .providePath(TestMapper.class, extractMethod(TestMapper.class, "selectAllDesc"), "h2"));
+    Assertions.assertThrows(IllegalStateException.class, () -> TemplateFilePathProvider
+        .providePath(TestMapper.class, extractMethod(TestMapper.class, "selectAllAsc"), null));
+  }
+
+  @Test
+  void indexEnabledWithCustomTemplateFileGenerator() {
+    TemplateFilePathProvider.setLanguageDriverConfig(
+        ThymeleafLanguageDriverConfig.newInstance(c -> c.getTemplateFile().getPathProvider().setIndexEnabled(true)));
+    TemplateFilePathProvider.setCustomTemplateFilePathGenerator((type, method, databaseId) -> type.getName()
+        .replace('.', '/') + "/" + type.getSimpleName() + "-" + method.getName() + ".txt");
+    // A template file that is not indexed is resolved using the class loader
+    Assertions.assertEquals("org/mybatis/scripting/thymeleaf/support/TestMapper/TestMapper-delete.txt",
+        TemplateFilePathProvider.providePath(TestMapper.class, extractMethod(TestMapper.class, "delete"), null));
+    Assertions.assertThrows(IllegalStateException.class, () -> TemplateFilePathProvider
+        .providePath(TestMapper.class, extractMethod(TestMapper.class, "update"), null));
+  }
+
+  @Test
+  void indexEnabledWithDefaultPackageMapper() throws ClassNotFoundException {
+    TemplateFilePathProvider.setLanguageDriverConfig(ThymeleafLanguageDriverConfig.newInstance(c -> {
+      c.getTemplateFile().setBaseDir("org/mybatis/scripting/thymeleaf/support/");
+      c.getTemplateFile().getPathProvider().setIndexEnabled(true);
+    }));
+    Class<?> mapperType = Class.forName("DefaultPackageNameMapper");
+    String path = TemplateFilePathProvider.providePath(mapperType, extractMethod(mapperType, "selectAllDesc"), null);
+    Assertions.assertEquals("DefaultPackageNameMapper/DefaultPackageNameMapper-selectAllDesc.sql", path);
+  }
+
   private Method extractMethod(Class<?> type, String methodName) {
     return Arrays.stream(type.getMethods()).filter(m -> m.getName().equals(methodName)).findFirst().orElseThrow(
         () -> new IllegalArgumentException("The method not found. type:" + type + " methodName:" + methodName));